@@ -0,0 +1,48 @@
+package com.example.deepfake.auth;
+
+import com.example.deepfake.auth.service.JwtServiceImpl;
+import com.example.deepfake.common.security.JwtPrincipal;
+import com.example.deepfake.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 실행되는 액세스 토큰 검증과 로그인/갱신 시의 토큰 발급 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+    
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+    
+    private JwtServiceImpl jwtService;
+    private User user;
+    private String accessToken;
+    
+    @Setup
+    public void setUp() {
+        jwtService = new JwtServiceImpl(SECRET, 3_600_000L, 604_800_000L);
+        user = User.builder()
+                .id(42L)
+                .email("user@example.com")
+                .name("홍길동")
+                .build();
+        accessToken = jwtService.generateAccessToken(user);
+    }
+    
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(user);
+    }
+    
+    @Benchmark
+    public JwtPrincipal parseAccessToken() {
+        return jwtService.parseAccessToken(accessToken);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.deepfake.file;
+
+import com.example.deepfake.common.dto.PaginationDto;
+import com.example.deepfake.dto.response.PublicFileItemDto;
+import com.example.deepfake.file.dto.PublicFileListResponse;
+import com.example.deepfake.file.entity.File;
+import com.example.deepfake.file.service.FileMapper;
+import com.example.deepfake.user.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 API(공개 목록/검색)의 DTO 변환 + JSON 직렬화 비용과 업로드 시 파생 값 계산
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FileMapperBenchmark {
+    
+    private static final String CLOUDINARY_URL =
+            "https://res.cloudinary.com/demo/image/upload/v1700000000/deepfake/0b6e4d4c-8f0a-4a55-9d0c-7b8f3f0f6a11.jpg";
+    private static final String PUBLIC_ID = "deepfake/0b6e4d4c-8f0a-4a55-9d0c-7b8f3f0f6a11";
+    
+    // 한 페이지 크기 (기본 페이지 20, 최대 100)
+    @Param({"20", "100"})
+    private int pageSize;
+    
+    private List<File> files;
+    private PublicFileListResponse response;
+    private ObjectMapper objectMapper;
+    
+    @Setup
+    public void setUp() {
+        // Spring Boot 기본 설정과 같은 모듈(JavaTimeModule 등)을 등록한 ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        
+        User user = User.builder()
+                .id(7L)
+                .email("user@example.com")
+                .name("홍길동")
+                .build();
+        
+        files = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            files.add(File.builder()
+                    .id((long) i)
+                    .name(PUBLIC_ID + i)
+                    .title("갤러리 이미지 " + i)
+                    .originalName("IMG_" + i + ".jpg")
+                    .url(CLOUDINARY_URL)
+                    .thumbnailUrl(FileMapper.thumbnailUrl(CLOUDINARY_URL, PUBLIC_ID + i))
+                    .size(1_048_576L + i)
+                    .type(i % 5 == 0 ? File.FileType.VIDEO : File.FileType.IMAGE)
+                    .mimeType(i % 5 == 0 ? "video/mp4" : "image/jpeg")
+                    .user(user)
+                    .uploadedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i))
+                    .build());
+        }
+        response = buildResponse();
+    }
+    
+    private PublicFileListResponse buildResponse() {
+        List<PublicFileItemDto> items = new ArrayList<>(files.size());
+        for (File file : files) {
+            items.add(FileMapper.toPublicFileItemDto(file));
+        }
+        return PublicFileListResponse.builder()
+                .success(true)
+                .data(PublicFileListResponse.PublicFileListData.builder()
+                        .files(items)
+                        .pagination(PaginationDto.builder()
+                                .currentPage(1)
+                                .pageSize(pageSize)
+                                .totalElements(10_000L)
+                                .totalPages(10_000 / pageSize)
+                                .hasNext(true)
+                                .hasPrevious(false)
+                                .build())
+                        .build())
+                .build();
+    }
+    
+    @Benchmark
+    public PublicFileListResponse convertPage() {
+        return buildResponse();
+    }
+    
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+    
+    @Benchmark
+    public byte[] convertAndSerializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(buildResponse());
+    }
+    
+    @Benchmark
+    public void determineFileType(Blackhole blackhole) {
+        blackhole.consume(FileMapper.determineFileType("image/jpeg"));
+        blackhole.consume(FileMapper.determineFileType("video/mp4"));
+        blackhole.consume(FileMapper.determineFileType(null));
+    }
+    
+    @Benchmark
+    public String thumbnailUrl() {
+        return FileMapper.thumbnailUrl(CLOUDINARY_URL, PUBLIC_ID);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.deepfake.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Cloudinary 업로드 API를 흉내 내는 로컬 HTTP 서버 (cloudinary.upload-prefix로 연결)
+// 지원: POST /v1_1/{cloud}/{resource_type}/upload, /destroy, DELETE /v1_1/{cloud}/resources/{resource_type}/upload (일괄 삭제)
+@Slf4j
+public class CloudinaryStub implements AutoCloseable {
+    
+    private static final Pattern API_PATH = Pattern.compile("^/v1_1/([^/]+)/(image|video|raw)/(upload|destroy)$");
+    private static final Pattern BULK_DELETE_PATH = Pattern.compile("^/v1_1/([^/]+)/resources/(image|video|raw)/upload$");
+    
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    // public_id -> resource_type
+    private final Map<String, String> resources = new ConcurrentHashMap<>();
+    
+    public CloudinaryStub(long latencyMillis, long jitterMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // 요청마다 가상 스레드: 동시 업로드 수가 많아도 대체 서버가 병목이 되지 않도록 함
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+    
+    public void start() {
+        server.start();
+        log.info("Cloudinary 대체 서버 시작: {} (지연 {}±{} ms)", getBaseUrl(), latencyMillis, jitterMillis);
+    }
+    
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+    
+    public int getResourceCount() {
+        return resources.size();
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if ("DELETE".equals(exchange.getRequestMethod())
+                    && BULK_DELETE_PATH.matcher(exchange.getRequestURI().getPath()).matches()) {
+                simulateLatency();
+                respond(exchange, 200, bulkDelete(exchange.getRequestURI().getRawQuery()));
+                return;
+            }
+            
+            Matcher matcher = API_PATH.matcher(exchange.getRequestURI().getPath());
+            if (!"POST".equals(exchange.getRequestMethod()) || !matcher.matches()) {
+                respond(exchange, 404, Map.of("error", Map.of("message", "not found")));
+                return;
+            }
+            
+            Map<String, String> params = readParams(exchange);
+            simulateLatency();
+            
+            String cloudName = matcher.group(1);
+            String resourceType = matcher.group(2);
+            if ("upload".equals(matcher.group(3))) {
+                respond(exchange, 200, upload(cloudName, resourceType, params));
+            } else {
+                String removed = resources.remove(params.getOrDefault("public_id", ""));
+                respond(exchange, 200, Map.of("result", removed != null ? "ok" : "not found"));
+            }
+        }
+    }
+    
+    private Map<String, Object> upload(String cloudName, String resourceType, Map<String, String> params) {
+        String publicId = params.getOrDefault("public_id", java.util.UUID.randomUUID().toString());
+        String folder = params.get("folder");
+        if (folder != null && !folder.isEmpty()) {
+            publicId = folder + "/" + publicId;
+        }
+        resources.put(publicId, resourceType);
+        
+        String format = "video".equals(resourceType) ? "mp4" : "jpg";
+        String url = getBaseUrl() + "/" + cloudName + "/" + resourceType + "/upload/v1/" + publicId + "." + format;
+        
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("public_id", publicId);
+        body.put("resource_type", resourceType);
+        body.put("format", format);
+        body.put("url", url);
+        body.put("secure_url", url);
+        return body;
+    }
+    
+    private Map<String, Object> bulkDelete(String rawQuery) {
+        Map<String, String> deleted = new LinkedHashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0 && URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8).equals("public_ids[]")) {
+                    String publicId = URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+                    deleted.put(publicId, resources.remove(publicId) != null ? "deleted" : "not_found");
+                }
+            }
+        }
+        return Map.of("deleted", deleted, "partial", false);
+    }
+    
+    private void simulateLatency() {
+        long delay = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1) : 0);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    // multipart/form-data 또는 x-www-form-urlencoded 본문에서 텍스트 필드만 추출 (파일 내용은 버림)
+    private Map<String, String> readParams(HttpExchange exchange) throws IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readAllBytes();
+        }
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        Map<String, String> params = new HashMap<>();
+        if (contentType == null) {
+            return params;
+        }
+        
+        if (contentType.startsWith("application/x-www-form-urlencoded")) {
+            for (String pair : new String(body, StandardCharsets.UTF_8).split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                            URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+                }
+            }
+            return params;
+        }
+        
+        int boundaryIndex = contentType.indexOf("boundary=");
+        if (boundaryIndex < 0) {
+            return params;
+        }
+        String boundary = "--" + contentType.substring(boundaryIndex + "boundary=".length()).replace("\"", "");
+        // ISO-8859-1은 바이트를 1:1로 보존하므로 바이너리 파트가 섞여 있어도 안전하게 분리 가능
+        String raw = new String(body, StandardCharsets.ISO_8859_1);
+        for (String part : raw.split(Pattern.quote(boundary))) {
+            int headerEnd = part.indexOf("\r\n\r\n");
+            if (headerEnd < 0) {
+                continue;
+            }
+            String headers = part.substring(0, headerEnd);
+            if (headers.contains("filename=")) {
+                continue;
+            }
+            Matcher name = Pattern.compile("name=\"([^\"]+)\"").matcher(headers);
+            if (name.find()) {
+                String value = part.substring(headerEnd + 4);
+                if (value.endsWith("\r\n")) {
+                    value = value.substring(0, value.length() - 2);
+                }
+                params.put(name.group(1), new String(value.getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+    
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, json.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
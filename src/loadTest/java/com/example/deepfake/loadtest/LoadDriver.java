@@ -0,0 +1,262 @@
+package com.example.deepfake.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 혼합 시나리오(목록/검색/업로드/삭제) 부하 발생기. 시나리오별 지연 시간은 HdrHistogram으로 기록
+@Slf4j
+public class LoadDriver {
+    
+    // MY_FILES: 삭제를 골랐지만 삭제할 파일이 없어 대신 실행한 내 파일 목록 조회
+    public enum Scenario {
+        BROWSE, SEARCH, UPLOAD, DELETE, MY_FILES
+    }
+    
+    private static final String[] SEARCH_KEYWORDS = {"풍경", "loadtest", "영상", "사진"};
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+    
+    private final String baseUrl;
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final byte[] uploadPayload;
+    
+    private final Map<Scenario, Recorder> recorders = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, LongAdder> errors = new EnumMap<>(Scenario.class);
+    private final List<VirtualUser> users = new ArrayList<>();
+    
+    public LoadDriver(String baseUrl, LoadTestConfig config) {
+        this.baseUrl = baseUrl;
+        this.config = config;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.uploadPayload = new byte[config.uploadBytes()];
+        ThreadLocalRandom.current().nextBytes(uploadPayload);
+        for (Scenario scenario : Scenario.values()) {
+            recorders.put(scenario, new Recorder(MAX_TRACKABLE_NANOS, 3));
+            errors.put(scenario, new LongAdder());
+        }
+    }
+    
+    // 사용자 등록과 초기 데이터 업로드 (측정에서 제외)
+    public void prepare() throws Exception {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < config.users(); i++) {
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "email", "load-" + runId + "-" + i + "@example.com",
+                    "password", "password123",
+                    "name", "부하사용자" + i));
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri("/auth/register"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("사용자 등록 실패: " + response.statusCode() + " " + response.body());
+            }
+            String token = objectMapper.readTree(response.body()).at("/data/tokens/accessToken").asText();
+            VirtualUser user = new VirtualUser(token);
+            users.add(user);
+            
+            for (int f = 0; f < config.seedFilesPerUser(); f++) {
+                upload(user);
+            }
+        }
+        log.info("부하 테스트 준비 완료: 사용자 {}, 초기 파일 {}", users.size(), users.size() * config.seedFilesPerUser());
+    }
+    
+    public Map<Scenario, Histogram> run() throws InterruptedException {
+        runFor(config.warmup());
+        // 워밍업 구간 기록은 버림
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        
+        log.info("측정 시작: 동시 사용자 {}, {} 동안", config.concurrency(), config.duration());
+        runFor(config.duration());
+        
+        Map<Scenario, Histogram> result = new EnumMap<>(Scenario.class);
+        recorders.forEach((scenario, recorder) -> result.put(scenario, recorder.getIntervalHistogram()));
+        return result;
+    }
+    
+    public long getErrors(Scenario scenario) {
+        return errors.get(scenario).sum();
+    }
+    
+    private void runFor(Duration duration) throws InterruptedException {
+        if (duration.isZero()) {
+            return;
+        }
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(config.concurrency());
+        for (int t = 0; t < config.concurrency(); t++) {
+            VirtualUser user = users.get(t % users.size());
+            // 동시 사용자 1,000명 이상도 부하 생성기 스레드 수에 묶이지 않도록 가상 스레드 사용
+            Thread.ofVirtual().name("load-worker-" + t).start(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        execute(pickScenario(), user);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+    
+    private Scenario pickScenario() {
+        int total = config.browseWeight() + config.searchWeight() + config.uploadWeight() + config.deleteWeight();
+        int roll = ThreadLocalRandom.current().nextInt(total);
+        if ((roll -= config.browseWeight()) < 0) {
+            return Scenario.BROWSE;
+        }
+        if ((roll -= config.searchWeight()) < 0) {
+            return Scenario.SEARCH;
+        }
+        if (roll - config.uploadWeight() < 0) {
+            return Scenario.UPLOAD;
+        }
+        return Scenario.DELETE;
+    }
+    
+    private void execute(Scenario picked, VirtualUser user) {
+        // 삭제 대상이 없으면 목록 조회로 대체하되 삭제 지연 시간/오류와 섞이지 않도록 별도 시나리오로 기록
+        Long fileId = picked == Scenario.DELETE ? user.fileIds.pollFirst() : null;
+        Scenario scenario = picked == Scenario.DELETE && fileId == null ? Scenario.MY_FILES : picked;
+        long start = System.nanoTime();
+        boolean ok;
+        try {
+            ok = switch (scenario) {
+                case BROWSE -> get("/files/public?page=" + (1 + ThreadLocalRandom.current().nextInt(5)) + "&size=20", user);
+                case SEARCH -> get("/files/search?q=" + urlEncode(SEARCH_KEYWORDS[ThreadLocalRandom.current().nextInt(SEARCH_KEYWORDS.length)]) + "&size=20", user);
+                case UPLOAD -> upload(user);
+                case DELETE -> delete(user, fileId);
+                case MY_FILES -> get("/files/my?size=20", user);
+            };
+        } catch (IOException e) {
+            ok = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        recorders.get(scenario).recordValue(Math.min(System.nanoTime() - start, MAX_TRACKABLE_NANOS));
+        if (!ok) {
+            errors.get(scenario).increment();
+        }
+    }
+    
+    private boolean get(String path, VirtualUser user) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(authorized(path, user).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() == 200;
+    }
+    
+    private boolean upload(VirtualUser user) throws IOException, InterruptedException {
+        String boundary = "----loadtest" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(uploadPayload.length + 512);
+        writePart(body, boundary, "Content-Disposition: form-data; name=\"titles\"\r\n\r\n",
+                ("loadtest 풍경 " + ThreadLocalRandom.current().nextInt(1000)).getBytes(StandardCharsets.UTF_8));
+        writePart(body, boundary, "Content-Disposition: form-data; name=\"files\"; filename=\"load.jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n", uploadPayload);
+        body.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        
+        HttpResponse<String> response = httpClient.send(authorized("/files/upload", user)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            return false;
+        }
+        for (JsonNode file : objectMapper.readTree(response.body()).path("data")) {
+            user.fileIds.add(file.path("id").asLong());
+        }
+        return true;
+    }
+    
+    private boolean delete(VirtualUser user, Long fileId) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(authorized("/files/" + fileId, user).DELETE().build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() == 200;
+    }
+    
+    private void writePart(ByteArrayOutputStream body, String boundary, String headers, byte[] content) throws IOException {
+        body.write(("--" + boundary + "\r\n" + headers).getBytes(StandardCharsets.UTF_8));
+        body.write(content);
+        body.write("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private HttpRequest.Builder authorized(String path, VirtualUser user) {
+        return HttpRequest.newBuilder(uri(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + user.accessToken);
+    }
+    
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+    
+    private static String urlEncode(String value) {
+        return java.net.URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+    
+    public Map<String, Object> summarize(Map<Scenario, Histogram> histograms) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        double seconds = config.duration().toMillis() / 1000.0;
+        histograms.forEach((scenario, histogram) -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", histogram.getTotalCount());
+            stats.put("errors", getErrors(scenario));
+            stats.put("throughputPerSec", round(histogram.getTotalCount() / seconds));
+            stats.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+            stats.put("p90Ms", millis(histogram.getValueAtPercentile(90)));
+            stats.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+            stats.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+            stats.put("maxMs", millis(histogram.getMaxValue()));
+            summary.put(scenario.name().toLowerCase(), stats);
+        });
+        return summary;
+    }
+    
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+    
+    private static class VirtualUser {
+        
+        private final String accessToken;
+        private final ConcurrentLinkedDeque<Long> fileIds = new ConcurrentLinkedDeque<>();
+        
+        private VirtualUser(String accessToken) {
+            this.accessToken = accessToken;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.deepfake.loadtest;
+
+import java.time.Duration;
+
+// 부하 테스트 설정. 시스템 속성 loadtest.* 로 변경 (gradle loadTest -Ploadtest.users=50 등)
+public record LoadTestConfig(
+        int users,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int seedFilesPerUser,
+        int uploadBytes,
+        int browseWeight,
+        int searchWeight,
+        int uploadWeight,
+        int deleteWeight,
+        long storageLatencyMillis,
+        long storageJitterMillis,
+        boolean virtualThreads,
+        String reportFile) {
+    
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                intProperty("users", 20),
+                intProperty("concurrency", 32),
+                Duration.ofSeconds(intProperty("warmup-seconds", 15)),
+                Duration.ofSeconds(intProperty("duration-seconds", 60)),
+                intProperty("seed-files-per-user", 5),
+                intProperty("upload-bytes", 256 * 1024),
+                intProperty("weight.browse", 60),
+                intProperty("weight.search", 25),
+                intProperty("weight.upload", 10),
+                intProperty("weight.delete", 5),
+                intProperty("storage.latency-ms", 150),
+                intProperty("storage.jitter-ms", 50),
+                Boolean.parseBoolean(System.getProperty("loadtest.virtual-threads", "false")),
+                System.getProperty("loadtest.report-file", "build/reports/loadtest/summary.json"));
+    }
+    
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadtest." + name, String.valueOf(defaultValue)));
+    }
+}
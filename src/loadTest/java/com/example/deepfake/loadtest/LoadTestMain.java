@@ -0,0 +1,91 @@
+package com.example.deepfake.loadtest;
+
+import com.example.deepfake.DeepfakeApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+// 오프라인 부하 테스트 진입점
+// 1) 내장 PostgreSQL 2) Cloudinary 대체 서버 3) 애플리케이션(prod 프로필, 임의 포트) 4) 혼합 시나리오 실행
+// 실행: ./gradlew loadTest (-Ploadtest.concurrency=64 -Ploadtest.duration-seconds=120 ...)
+@Slf4j
+public class LoadTestMain {
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             CloudinaryStub storage = new CloudinaryStub(config.storageLatencyMillis(), config.storageJitterMillis())) {
+            storage.start();
+            
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(DeepfakeApplication.class)
+                    .profiles("prod")
+                    .run(
+                            // 명령행 인자는 application-prod.properties보다 우선
+                            "--server.port=0",
+                            "--server.address=127.0.0.1",
+                            "--management.server.port=0",
+                            "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                            "--spring.datasource.username=postgres",
+                            "--spring.datasource.password=postgres",
+                            "--jwt.secret=loadtest-secret-key-that-is-long-enough-for-hs256",
+                            "--cloudinary.cloud-name=loadtest",
+                            "--cloudinary.api-key=loadtest",
+                            "--cloudinary.api-secret=loadtest",
+                            "--cloudinary.upload-prefix=" + storage.getBaseUrl(),
+                            // 대체 서버는 평문 HTTP/1.1만 지원 (운영은 TLS에서 HTTP/2 협상)
+                            "--cloudinary.http.version=HTTP_1_1",
+                            "--rate-limit.enabled=false",
+                            "--spring.threads.virtual.enabled=" + config.virtualThreads(),
+                            "--user.quota.max-bytes=0",
+                            "--user.quota.max-files=0",
+                            "--logging.level.com.example.deepfake=WARN",
+                            "--logging.level.org.springframework.security=WARN");
+            
+            try {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+                LoadDriver driver = new LoadDriver("http://127.0.0.1:" + port + contextPath, config);
+                driver.prepare();
+                
+                Map<LoadDriver.Scenario, Histogram> histograms = driver.run();
+                Map<String, Object> summary = driver.summarize(histograms);
+                
+                printSummary(summary);
+                writeReport(config, summary);
+                log.info("스토리지 대체 서버 보관 리소스: {} 개", storage.getResourceCount());
+            } finally {
+                context.close();
+            }
+        }
+    }
+    
+    private static void printSummary(Map<String, Object> summary) {
+        System.out.printf("%n%-8s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "scenario", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        summary.forEach((scenario, value) -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> stats = (Map<String, Object>) value;
+            System.out.printf("%-8s %8s %7s %9s %9s %9s %9s %9s %9s%n", scenario,
+                    stats.get("count"), stats.get("errors"), stats.get("throughputPerSec"),
+                    stats.get("p50Ms"), stats.get("p90Ms"), stats.get("p99Ms"), stats.get("p999Ms"), stats.get("maxMs"));
+        });
+    }
+    
+    private static void writeReport(LoadTestConfig config, Map<String, Object> summary) throws Exception {
+        Path report = Path.of(config.reportFile());
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(report.toFile(), Map.of("config", config.toString(), "results", summary));
+        log.info("부하 테스트 결과 저장: {}", report.toAbsolutePath());
+    }
+}
@@ -6,6 +6,7 @@ import com.example.deepfake.auth.dto.RegisterRequest;
 import com.example.deepfake.auth.dto.AuthResponse;
 import com.example.deepfake.auth.dto.TokenResponse;
 import com.example.deepfake.auth.service.AuthService;
+import com.example.deepfake.common.dto.SuccessResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -47,4 +48,15 @@ public class AuthController {
         TokenResponse response = authService.refreshToken(request);
         return ResponseEntity.ok(response);
     }
+    
+    @PostMapping("/logout")
+    @Operation(summary = "로그아웃", description = "리프레시 토큰을 폐기하여 더 이상 갱신에 사용할 수 없게 합니다")
+    public ResponseEntity<SuccessResponse<Void>> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        log.info("로그아웃 요청");
+        authService.logout(request);
+        return ResponseEntity.ok(SuccessResponse.<Void>builder()
+                .success(true)
+                .message("로그아웃되었습니다")
+                .build());
+    }
 }
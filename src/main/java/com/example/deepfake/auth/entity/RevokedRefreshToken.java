@@ -0,0 +1,43 @@
+package com.example.deepfake.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 이미 사용(회전)되었거나 로그아웃으로 폐기된 리프레시 토큰의 jti
+// 토큰 만료 이후에는 서명 검증에서 걸러지므로 expires_at 이후 행은 정리 대상
+@Entity
+@Table(name = "revoked_refresh_tokens", indexes = {
+        @Index(name = "idx_revoked_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedRefreshToken {
+    
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Reason reason;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+    
+    public enum Reason {
+        USED, REVOKED
+    }
+}
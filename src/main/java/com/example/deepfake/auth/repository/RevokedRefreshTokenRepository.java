@@ -0,0 +1,45 @@
+package com.example.deepfake.auth.repository;
+
+import com.example.deepfake.auth.entity.RevokedRefreshToken;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+@Repository
+public interface RevokedRefreshTokenRepository extends JpaRepository<RevokedRefreshToken, String> {
+    
+    // 이미 기록된 jti면 0을 반환하므로 동시 회전 요청 중 하나만 성공
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "revoked_refresh_tokens"))
+    @Modifying
+    @Query(value = "INSERT INTO revoked_refresh_tokens (token_id, user_id, reason, expires_at, revoked_at) " +
+            "VALUES (:tokenId, :userId, :reason, :expiresAt, :revokedAt) " +
+            "ON CONFLICT (token_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("tokenId") String tokenId,
+                       @Param("userId") Long userId,
+                       @Param("reason") String reason,
+                       @Param("expiresAt") LocalDateTime expiresAt,
+                       @Param("revokedAt") LocalDateTime revokedAt);
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedRefreshToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+    
+    // Bloom 필터 재구성용 (만료되지 않은 jti만)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.tokenId FROM RevokedRefreshToken t WHERE t.expiresAt >= :now")
+    Stream<String> streamActiveTokenIds(@Param("now") LocalDateTime now);
+}
@@ -13,4 +13,6 @@ public interface AuthService {
     AuthResponse login(LoginRequest request);
     
     TokenResponse refreshToken(RefreshTokenRequest request);
+    
+    void logout(RefreshTokenRequest request);
 }
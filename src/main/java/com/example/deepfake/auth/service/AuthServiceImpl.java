@@ -11,10 +11,12 @@ import com.example.deepfake.user.repository.UserRepository;
 import com.example.deepfake.auth.service.AuthService;
 import com.example.deepfake.auth.service.JwtService;
 import com.example.deepfake.common.exception.ResourceConflictException;
+import com.example.deepfake.common.security.RefreshTokenClaims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -24,10 +26,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthServiceImpl implements AuthService {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
+    private final RefreshTokenStore refreshTokenStore;
     
+    // 해시 계산 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행 (저장은 리포지토리 트랜잭션)
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse register(RegisterRequest request) {
         // 이메일 중복 체크
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -35,7 +40,7 @@ public class AuthServiceImpl implements AuthService {
         }
         
         // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
         
         // 사용자 생성 및 저장
         User user = User.builder()
@@ -76,16 +81,20 @@ public class AuthServiceImpl implements AuthService {
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse login(LoginRequest request) {
         // 사용자 조회
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("이메일 또는 비밀번호가 올바르지 않습니다"));
         
         // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new RuntimeException("이메일 또는 비밀번호가 올바르지 않습니다");
         }
         
+        // 설정된 알고리즘/cost와 다른 해시는 평문을 알고 있는 지금 재암호화
+        upgradePasswordHash(user, request.getPassword());
+        
         // JWT 토큰 생성
         String accessToken = jwtService.generateAccessToken(user);
         String refreshToken = jwtService.generateRefreshToken(user);
@@ -115,18 +124,42 @@ public class AuthServiceImpl implements AuthService {
                 .build();
     }
     
+    private void upgradePasswordHash(User user, String rawPassword) {
+        if (!passwordHashingService.needsUpgrade(user.getPassword())) {
+            return;
+        }
+        try {
+            String newHash = passwordHashingService.encode(rawPassword);
+            if (userRepository.updatePasswordHash(user.getId(), user.getPassword(), newHash) > 0) {
+                user.setPassword(newHash);
+                log.info("비밀번호 해시 갱신: 사용자 {}", user.getId());
+            }
+        } catch (RuntimeException e) {
+            // 재암호화 실패는 로그인 결과에 영향을 주지 않음 (다음 로그인 때 재시도)
+            log.warn("비밀번호 해시 갱신 실패: 사용자 {} - {}", user.getId(), e.getMessage());
+        }
+    }
+    
     @Override
     public TokenResponse refreshToken(RefreshTokenRequest request) {
-        // 리프레시 토큰 검증
-        if (!jwtService.validateToken(request.getRefreshToken())) {
+        // 리프레시 토큰 검증 및 사용자 정보 추출 (한 번만 파싱)
+        RefreshTokenClaims claims = parseRefreshToken(request.getRefreshToken());
+        
+        // 대부분의 정상 토큰은 메모리 필터에서 바로 통과
+        if (refreshTokenStore.isRevoked(claims.getTokenId())) {
+            log.warn("사용/폐기된 리프레시 토큰 재사용 시도: 사용자 {}", claims.getUserId());
             throw new RuntimeException("유효하지 않은 리프레시 토큰입니다");
         }
         
-        // 토큰에서 사용자 정보 추출
-        String email = jwtService.getEmailFromToken(request.getRefreshToken());
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findById(claims.getUserId())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
         
+        // 회전: 기존 토큰을 사용 처리. 동시에 같은 토큰으로 요청하면 하나만 성공
+        if (!refreshTokenStore.markUsed(claims)) {
+            log.warn("리프레시 토큰 동시 재사용 감지: 사용자 {}", claims.getUserId());
+            throw new RuntimeException("유효하지 않은 리프레시 토큰입니다");
+        }
+        
         // 새로운 액세스 토큰 생성
         String newAccessToken = jwtService.generateAccessToken(user);
         String newRefreshToken = jwtService.generateRefreshToken(user);
@@ -138,4 +171,19 @@ public class AuthServiceImpl implements AuthService {
                 .expiresIn(3600)
                 .build();
     }
+    
+    @Override
+    public void logout(RefreshTokenRequest request) {
+        RefreshTokenClaims claims = parseRefreshToken(request.getRefreshToken());
+        refreshTokenStore.revoke(claims);
+        log.info("리프레시 토큰 폐기: 사용자 {}", claims.getUserId());
+    }
+    
+    private RefreshTokenClaims parseRefreshToken(String refreshToken) {
+        try {
+            return jwtService.parseRefreshToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new RuntimeException("유효하지 않은 리프레시 토큰입니다");
+        }
+    }
 }
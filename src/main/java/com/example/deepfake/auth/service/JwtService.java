@@ -1,5 +1,7 @@
 package com.example.deepfake.auth.service;
 
+import com.example.deepfake.common.security.JwtPrincipal;
+import com.example.deepfake.common.security.RefreshTokenClaims;
 import com.example.deepfake.user.entity.User;
 
 public interface JwtService {
@@ -8,9 +10,9 @@ public interface JwtService {
     
     String generateRefreshToken(User user);
     
-    boolean validateToken(String token);
+    // 서명 및 만료를 검증하고 클레임을 반환 (유효하지 않으면 JwtException)
+    JwtPrincipal parseAccessToken(String token);
     
-    String getEmailFromToken(String token);
-    
-    Long getUserIdFromToken(String token);
+    // jti가 없는 이전 형식의 리프레시 토큰은 회전 추적이 불가능하므로 거부
+    RefreshTokenClaims parseRefreshToken(String token);
 }
@@ -1,5 +1,7 @@
 package com.example.deepfake.auth.service;
 
+import com.example.deepfake.common.security.JwtPrincipal;
+import com.example.deepfake.common.security.RefreshTokenClaims;
 import com.example.deepfake.user.entity.User;
 import com.example.deepfake.auth.service.JwtService;
 import io.jsonwebtoken.*;
@@ -12,22 +14,31 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Service
 @Slf4j
 public class JwtServiceImpl implements JwtService {
     
-    @Value("${jwt.secret}")
-    private String secret;
+    private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
     
-    @Value("${jwt.access-token-expiration}")
-    private Long accessTokenExpiration;
+    private final long accessTokenExpiration;
+    private final long refreshTokenExpiration;
     
-    @Value("${jwt.refresh-token-expiration}")
-    private Long refreshTokenExpiration;
+    // 서명 키와 파서는 한 번만 생성해 재사용 (파서는 불변이며 스레드 안전)
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    public JwtServiceImpl(@Value("${jwt.secret}") String secret,
+                          @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
+                          @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
     
     @Override
@@ -42,7 +53,7 @@ public class JwtServiceImpl implements JwtService {
                 .subject(user.getEmail())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
     
@@ -51,48 +62,47 @@ public class JwtServiceImpl implements JwtService {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", user.getId());
         claims.put("email", user.getEmail());
-        claims.put("type", "refresh");
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
         
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(user.getEmail())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
     
     @Override
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            log.error("JWT 토큰 검증 실패: {}", e.getMessage());
-            return false;
+    public JwtPrincipal parseAccessToken(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        if (REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new UnsupportedJwtException("리프레시 토큰은 API 인증에 사용할 수 없습니다");
         }
+        return toPrincipal(claims);
     }
     
     @Override
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
+    public RefreshTokenClaims parseRefreshToken(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new UnsupportedJwtException("리프레시 토큰이 아닙니다");
+        }
+        if (claims.getId() == null) {
+            throw new UnsupportedJwtException("토큰 ID가 없는 리프레시 토큰입니다");
+        }
+        return new RefreshTokenClaims(
+                claims.get("userId", Long.class),
+                claims.getSubject(),
+                claims.getId(),
+                claims.getExpiration().toInstant());
     }
     
-    @Override
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("userId", Long.class);
+    private JwtPrincipal toPrincipal(Claims claims) {
+        return new JwtPrincipal(
+                claims.get("userId", Long.class),
+                claims.getSubject(),
+                claims.get("name", String.class));
     }
 }
@@ -0,0 +1,10 @@
+package com.example.deepfake.auth.service;
+
+public interface PasswordHashingService {
+    
+    String encode(String rawPassword);
+    
+    boolean matches(String rawPassword, String encodedPassword);
+    
+    boolean needsUpgrade(String encodedPassword);
+}
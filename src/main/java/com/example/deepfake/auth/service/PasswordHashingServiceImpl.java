@@ -0,0 +1,137 @@
+package com.example.deepfake.auth.service;
+
+import com.example.deepfake.common.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// bcrypt 해시/검증을 요청 스레드가 아닌 전용 고정 크기 풀에서 실행
+// 대기열이 가득 차거나 대기 시간이 초과되면 즉시 503으로 응답하여 다른 API의 스레드와 CPU를 보호
+@Service
+@Slf4j
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+    
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Counter rejectedCounter;
+    
+    public PasswordHashingServiceImpl(PasswordEncoder passwordEncoder,
+                                      ObjectProvider<MeterRegistry> meterRegistry,
+                                      @Value("${security.password.hashing.threads:0}") int threads,
+                                      @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+                                      @Value("${security.password.hashing.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        
+        // 0 이하이면 코어 수에 맞춤 (bcrypt는 순수 CPU 작업)
+        // 가상 스레드 모드에서도 CPU 작업은 이 플랫폼 스레드 풀에서 실행해 동시 해시 수를 제한
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder("auth.password.hashing.queue.size", executor, e -> e.getQueue().size())
+                    .description("비밀번호 해시 작업 대기열 길이")
+                    .register(registry);
+            Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                    .description("실행 중인 비밀번호 해시 작업 수")
+                    .register(registry);
+            this.rejectedCounter = Counter.builder("auth.password.hashing.rejected")
+                    .description("대기열 포화/시간 초과로 거절된 해시 작업 수")
+                    .register(registry);
+        } else {
+            this.rejectedCounter = null;
+        }
+        
+        log.info("비밀번호 해시 풀 초기화: 스레드 {}, 대기열 {}, 대기 시간 {}", poolSize, queueCapacity, timeout);
+    }
+    
+    @Override
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+    
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+    
+    @Override
+    public boolean needsUpgrade(String encodedPassword) {
+        // 해시 접두어/cost만 확인하므로 요청 스레드에서 바로 실행
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+    
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            reject("대기열 포화");
+            throw new ServiceBusyException("요청이 많아 잠시 후 다시 시도해주세요", e);
+        }
+        
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            reject("대기 시간 초과");
+            throw new ServiceBusyException("요청이 많아 잠시 후 다시 시도해주세요", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("요청 처리가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다", e.getCause());
+        }
+    }
+    
+    private void reject(String reason) {
+        if (rejectedCounter != null) {
+            rejectedCounter.increment();
+        }
+        log.warn("비밀번호 해시 작업 거절 ({}): 대기열 {}, 실행 중 {}",
+                reason, executor.getQueue().size(), executor.getActiveCount());
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    private static class HashingThreadFactory implements ThreadFactory {
+        
+        private final AtomicInteger sequence = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.deepfake.auth.service;
+
+import com.example.deepfake.common.security.RefreshTokenClaims;
+
+public interface RefreshTokenStore {
+    
+    // 메모리 필터로 먼저 판단하고, 필터가 "있을 수 있음"이라고 할 때만 DB 확인
+    boolean isRevoked(String tokenId);
+    
+    // 회전 시 사용 처리. 이미 사용/폐기된 토큰이면 false
+    boolean markUsed(RefreshTokenClaims claims);
+    
+    void revoke(RefreshTokenClaims claims);
+    
+    void purgeExpired();
+}
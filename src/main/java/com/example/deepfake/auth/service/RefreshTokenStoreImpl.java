@@ -0,0 +1,135 @@
+package com.example.deepfake.auth.service;
+
+import com.example.deepfake.auth.entity.RevokedRefreshToken;
+import com.example.deepfake.auth.repository.RevokedRefreshTokenRepository;
+import com.example.deepfake.common.security.RefreshTokenClaims;
+import com.example.deepfake.common.util.BloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+// 사용/폐기된 리프레시 토큰 jti 저장소
+// 조회 순서: 최근 폐기 jti 정확 집합 -> Bloom 필터(음성이면 확정) -> DB
+// 기록은 항상 DB 유니크 키로 판정하므로 메모리 필터가 인스턴스 간에 달라도 재사용은 차단됨
+@Service
+@Slf4j
+public class RefreshTokenStoreImpl implements RefreshTokenStore {
+    
+    private final RevokedRefreshTokenRepository revokedTokenRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    
+    // 최근 폐기된 jti (크기 제한, 리프레시 토큰 수명 동안 유지)
+    private final Cache<String, Boolean> recentlyRevoked;
+    
+    // 정리 작업 때 DB 기준으로 새로 만들어 교체
+    private volatile BloomFilter revokedFilter;
+    private final AtomicLong filterInsertions = new AtomicLong();
+    
+    public RefreshTokenStoreImpl(RevokedRefreshTokenRepository revokedTokenRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${auth.refresh.revoked-cache.max-size:50000}") long exactSetSize,
+                                 @Value("${auth.refresh.bloom.expected-insertions:200000}") long expectedInsertions,
+                                 @Value("${auth.refresh.bloom.false-positive-probability:0.01}") double falsePositiveProbability,
+                                 @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.recentlyRevoked = Caffeine.newBuilder()
+                .maximumSize(exactSetSize)
+                .expireAfterWrite(Duration.ofMillis(refreshTokenExpiration))
+                .build();
+        this.revokedFilter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+    
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (recentlyRevoked.getIfPresent(tokenId) != null) {
+            return true;
+        }
+        if (!revokedFilter.mightContain(tokenId)) {
+            return false;
+        }
+        boolean revoked = revokedTokenRepository.existsById(tokenId);
+        if (revoked) {
+            recentlyRevoked.put(tokenId, Boolean.TRUE);
+        }
+        return revoked;
+    }
+    
+    @Override
+    public boolean markUsed(RefreshTokenClaims claims) {
+        return record(claims, RevokedRefreshToken.Reason.USED);
+    }
+    
+    @Override
+    public void revoke(RefreshTokenClaims claims) {
+        record(claims, RevokedRefreshToken.Reason.REVOKED);
+    }
+    
+    private boolean record(RefreshTokenClaims claims, RevokedRefreshToken.Reason reason) {
+        int inserted = revokedTokenRepository.insertIfAbsent(
+                claims.getTokenId(),
+                claims.getUserId(),
+                reason.name(),
+                LocalDateTime.ofInstant(claims.getExpiresAt(), ZoneId.systemDefault()),
+                LocalDateTime.now());
+        
+        remember(claims.getTokenId());
+        return inserted > 0;
+    }
+    
+    private void remember(String tokenId) {
+        recentlyRevoked.put(tokenId, Boolean.TRUE);
+        revokedFilter.put(tokenId);
+        if (filterInsertions.incrementAndGet() == expectedInsertions) {
+            log.warn("리프레시 토큰 Bloom 필터가 예상 삽입 수({})에 도달했습니다. 오탐률이 증가합니다", expectedInsertions);
+        }
+    }
+    
+    @Override
+    @Scheduled(cron = "${auth.refresh.purge-cron:0 30 4 * * *}")
+    public void purgeExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 리프레시 토큰 폐기 기록 정리: {} 건", deleted);
+        rebuildFilter();
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildFilter() {
+        BloomFilter filter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        LongAdder loaded = new LongAdder();
+        // 스트림 조회는 트랜잭션 안에서만 가능 (purgeExpired에서 내부 호출되므로 템플릿 사용)
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<String> tokenIds = revokedTokenRepository.streamActiveTokenIds(LocalDateTime.now())) {
+                tokenIds.forEach(tokenId -> {
+                    filter.put(tokenId);
+                    loaded.increment();
+                });
+            }
+        });
+        long count = loaded.sum();
+        
+        // 재구성 중 기록된 jti는 DB 유니크 키와 정확 집합에서 걸러지므로 교체 시 누락되어도 안전
+        revokedFilter = filter;
+        filterInsertions.set(count);
+        log.info("리프레시 토큰 Bloom 필터 재구성: {} 건", count);
+    }
+}
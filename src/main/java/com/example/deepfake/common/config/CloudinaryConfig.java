@@ -1,8 +1,8 @@
 package com.example.deepfake.common.config;
 
-import com.cloudinary.Cloudinary;
-import java.util.HashMap;
-import java.util.Map;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -15,20 +15,23 @@ public class CloudinaryConfig {
     @Value("${cloudinary.cloud-name}")
     private String cloudName;
 
-    @Value("${cloudinary.api-key}")
-    private String apiKey;
+    // HTTP_2: TLS(ALPN)로 협상되면 한 연결에서 여러 업로드를 다중화, 아니면 HTTP/1.1 연결 풀 사용
+    @Value("${cloudinary.http.version:HTTP_2}")
+    private HttpClient.Version httpVersion;
 
-    @Value("${cloudinary.api-secret}")
-    private String apiSecret;
+    @Value("${cloudinary.http.connect-timeout:5s}")
+    private Duration connectTimeout;
 
+    // 애플리케이션 전체에서 하나만 사용해야 연결 풀(keep-alive)이 재사용됨
     @Bean
-    public Cloudinary cloudinary() {
-        log.info("Cloudinary 설정 초기화: {}", cloudName);
-        Map<String, Object> config = new HashMap<>();
-        config.put("cloud_name", cloudName);
-        config.put("api_key", apiKey);
-        config.put("api_secret", apiSecret);
-        config.put("secure", true);
-        return new Cloudinary(config);
+    public HttpClient cloudinaryHttpClient() {
+        log.info("Cloudinary HTTP 클라이언트 초기화: {} ({})", cloudName, httpVersion);
+        return HttpClient.newBuilder()
+                .version(httpVersion)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                // 응답 처리/본문 스트리밍은 블로킹 대기가 대부분이라 가상 스레드에서 실행
+                .executor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("cloudinary-http-", 0).factory()))
+                .build();
     }
 }
@@ -0,0 +1,145 @@
+package com.example.deepfake.common.config;
+
+import com.example.deepfake.common.datasource.ReadWriteRoutingDataSource;
+import com.example.deepfake.common.datasource.ReadYourWritesTracker;
+import com.example.deepfake.common.datasource.ReplicaAwareJpaDialect;
+import com.example.deepfake.common.datasource.ReplicaHealthMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 읽기 전용 트랜잭션(갤러리/목록 조회 등)을 복제본으로 분산 (opt-in)
+// 비활성화 시에는 Spring Boot 기본 DataSource 하나만 사용
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+@Slf4j
+public class DataSourceRoutingConfig {
+
+    // 쉼표로 구분한 복제본 JDBC URL 목록 (비어 있으면 모든 요청이 기본 DB로 감)
+    @Value("${datasource.replica.urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${datasource.replica.maximum-pool-size:10}")
+    private int replicaPoolSize;
+
+    // 복제본 장애 시 요청이 오래 기다리지 않고 기본 DB로 넘어가도록 기본 풀보다 짧게 설정
+    @Value("${datasource.replica.connection-timeout:1000}")
+    private long replicaConnectionTimeout;
+
+    @Value("${datasource.replica.max-lag:5s}")
+    private Duration maxLag;
+
+    @Value("${datasource.replica.health-check-interval:2s}")
+    private Duration healthCheckInterval;
+
+    @Value("${datasource.routing.read-your-writes.window:10s}")
+    private Duration readYourWritesWindow;
+
+    @Value("${datasource.routing.read-your-writes.max-size:100000}")
+    private long readYourWritesMaxSize;
+
+    // spring.datasource.* / spring.datasource.hikari.* 설정을 그대로 사용하는 기본(쓰기) DB 풀
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReplicaHealthMonitor replicaHealthMonitor(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        List<ReplicaHealthMonitor.Replica> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            String name = "replica-" + replicas.size();
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(url.trim());
+            dataSource.setDriverClassName(properties.getDriverClassName());
+            dataSource.setUsername(replicaUsername);
+            dataSource.setPassword(replicaPassword);
+            dataSource.setMaximumPoolSize(replicaPoolSize);
+            dataSource.setConnectionTimeout(replicaConnectionTimeout);
+            dataSource.setReadOnly(true);
+            // 복제본이 내려가 있어도 애플리케이션은 기동되고, 상태 확인이 성공하면 라우팅 대상에 포함
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new ReplicaHealthMonitor.Replica(name, dataSource));
+        }
+        log.info("읽기 복제본 라우팅 활성화: 복제본 {} 개, 지연 허용치 {}", replicas.size(), maxLag);
+        return new ReplicaHealthMonitor(replicas, maxLag, healthCheckInterval, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(readYourWritesWindow, readYourWritesMaxSize);
+    }
+
+    // JPA/JdbcTemplate이 사용하는 DataSource
+    // 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 읽기 전용 여부를 보고 대상 풀을 고름
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaHealthMonitor replicaHealthMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaHealthMonitor, readYourWritesTracker));
+        // 기본값 확인용으로 기동 시 커넥션을 미리 가져오지 않도록 PostgreSQL 기본값을 지정
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+
+    // Spring Boot 기본 JpaVendorAdapter 대신 사용 (spring.jpa.* 설정은 기본 구성과 같게 적용)
+    // 복제본으로 갈 수 있는 읽기 전용 트랜잭션이 2차 캐시를 채우지 않도록 JpaDialect만 교체
+    @Bean
+    public JpaVendorAdapter jpaVendorAdapter(JpaProperties properties,
+                                             ReplicaHealthMonitor replicaHealthMonitor,
+                                             ReadYourWritesTracker readYourWritesTracker) {
+        HibernateJpaDialect jpaDialect = new ReplicaAwareJpaDialect(replicaHealthMonitor, readYourWritesTracker);
+        HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter() {
+            @Override
+            public HibernateJpaDialect getJpaDialect() {
+                return jpaDialect;
+            }
+        };
+        adapter.setShowSql(properties.isShowSql());
+        if (properties.getDatabase() != null) {
+            adapter.setDatabase(properties.getDatabase());
+        }
+        if (properties.getDatabasePlatform() != null) {
+            adapter.setDatabasePlatform(properties.getDatabasePlatform());
+        }
+        adapter.setGenerateDdl(properties.isGenerateDdl());
+        return adapter;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.deepfake.common.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+// Hibernate 2차 캐시 영역(JCache/Caffeine)을 영역별 크기와 TTL로 미리 생성
+// 영역 이름은 엔티티의 @Cache/@NaturalIdCache region과 같아야 함
+// 사용 여부는 spring.jpa.properties.hibernate.cache.use_second_level_cache로 제어
+@Configuration
+@Slf4j
+public class HibernateCacheConfig {
+
+    public static final String USERS_REGION = "users";
+    public static final String USERS_BY_EMAIL_REGION = "users-by-email";
+    public static final String FILES_REGION = "files";
+
+    @Value("${entity-cache.users.max-size:10000}")
+    private long usersMaxSize;
+
+    @Value("${entity-cache.users.ttl:30m}")
+    private Duration usersTtl;
+
+    @Value("${entity-cache.users-by-email.max-size:10000}")
+    private long usersByEmailMaxSize;
+
+    @Value("${entity-cache.users-by-email.ttl:30m}")
+    private Duration usersByEmailTtl;
+
+    @Value("${entity-cache.files.max-size:50000}")
+    private long filesMaxSize;
+
+    @Value("${entity-cache.files.ttl:10m}")
+    private Duration filesTtl;
+
+    // 애플리케이션 컨텍스트마다 별도 CacheManager를 사용
+    // (테스트처럼 한 JVM에 컨텍스트가 여럿이어도 같은 이름의 영역을 공유하지 않음)
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        createRegion(cacheManager, USERS_REGION, usersMaxSize, usersTtl);
+        createRegion(cacheManager, USERS_BY_EMAIL_REGION, usersByEmailMaxSize, usersByEmailTtl);
+        createRegion(cacheManager, FILES_REGION, filesMaxSize, filesTtl);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // 위에서 만들지 않은 영역은 크기 제한 없이 생성되므로 경고로 남김
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+        };
+    }
+
+    private void createRegion(CacheManager cacheManager, String region, long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        // 기본값(store-by-value)은 읽기/쓰기마다 직렬화 복사를 하므로 참조를 그대로 보관
+        // Hibernate가 엔티티가 아니라 분해된 상태(CacheEntry)를 저장하므로 호출자가 캐시 값을 변경하지 않음
+        configuration.setStoreByValue(false);
+        cacheManager.createCache(region, configuration);
+        log.info("2차 캐시 영역 생성: {} (최대 {} 건, TTL {})", region, maxSize, ttl);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.deepfake.common.config;
 
+import com.example.deepfake.common.security.CurrentUserId;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
@@ -7,6 +8,7 @@ import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -15,6 +17,11 @@ import java.util.List;
 @Configuration
 public class OpenApiConfig {
     
+    static {
+        // @CurrentUserId 파라미터는 요청 파라미터가 아니므로 문서에서 제외
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(CurrentUserId.class);
+    }
+    
     @Bean
     public OpenAPI customOpenAPI() {
         return new OpenAPI()
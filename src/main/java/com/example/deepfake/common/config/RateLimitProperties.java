@@ -0,0 +1,50 @@
+package com.example.deepfake.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 경로별 토큰 버킷 한도 설정 (rate-limit.rules[n].*)
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+@Data
+public class RateLimitProperties {
+    
+    private boolean enabled = true;
+    
+    // 이 시간 동안 사용되지 않고 가득 찬 버킷은 제거
+    private Duration idleEviction = Duration.ofMinutes(10);
+    
+    private List<Rule> rules = new ArrayList<>();
+    
+    @Data
+    public static class Rule {
+        
+        private String name;
+        
+        // 컨텍스트 경로(/api/v1)를 제외한 Ant 패턴
+        private String path;
+        
+        // 비어 있으면 모든 메서드
+        private List<String> methods = new ArrayList<>();
+        
+        // 버킷 크기 (순간 허용량)
+        private long capacity;
+        
+        // refillPeriod마다 refillTokens개 충전
+        private long refillTokens;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+        
+        private KeyType key = KeyType.USER;
+    }
+    
+    public enum KeyType {
+        // 인증된 요청은 사용자 ID, 아니면 IP 기준
+        USER,
+        IP
+    }
+}
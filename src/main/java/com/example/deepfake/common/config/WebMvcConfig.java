@@ -0,0 +1,51 @@
+package com.example.deepfake.common.config;
+
+import com.example.deepfake.common.security.CurrentUserIdArgumentResolver;
+import com.example.deepfake.common.tracing.TracingJackson2HttpMessageConverter;
+import com.example.deepfake.file.controller.UploadQuotaInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+    
+    private final UploadQuotaInterceptor uploadQuotaInterceptor;
+    private final CurrentUserIdArgumentResolver currentUserIdArgumentResolver;
+    
+    @Value("${tracing.enabled:true}")
+    private boolean tracingEnabled;
+    
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserIdArgumentResolver);
+    }
+    
+    // 기본 Jackson 컨버터를 같은 ObjectMapper를 쓰는 직렬화 시간 측정용 컨버터로 교체
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (!tracingEnabled) {
+            return;
+        }
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter jacksonConverter
+                    && !(jacksonConverter instanceof TracingJackson2HttpMessageConverter)) {
+                converters.set(i, new TracingJackson2HttpMessageConverter(jacksonConverter.getObjectMapper()));
+            }
+        }
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(uploadQuotaInterceptor)
+                .addPathPatterns("/files/upload");
+    }
+}
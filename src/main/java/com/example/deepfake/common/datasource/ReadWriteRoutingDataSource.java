@@ -0,0 +1,54 @@
+package com.example.deepfake.common.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+// 읽기 전용 트랜잭션은 복제본으로, 그 외(쓰기 트랜잭션, 트랜잭션 밖 접근)는 기본 DB로 보냄
+// 트랜잭션 속성은 시작 후에 확정되므로 LazyConnectionDataSourceProxy로 감싸 첫 SQL 실행 시점에 커넥션을 결정해야 함
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaHealthMonitor replicaHealthMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      ReplicaHealthMonitor replicaHealthMonitor,
+                                      ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicaHealthMonitor = replicaHealthMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.onWriteConnection();
+            }
+            return primary.getConnection();
+        }
+        if (readYourWritesTracker.isRecentWriter()) {
+            return primary.getConnection();
+        }
+
+        Optional<ReplicaHealthMonitor.Replica> replica = replicaHealthMonitor.nextAvailable();
+        if (replica.isPresent()) {
+            try {
+                return replica.get().getDataSource().getConnection();
+            } catch (SQLException e) {
+                replicaHealthMonitor.markUnavailable(replica.get(), e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.deepfake.common.datasource;
+
+import com.example.deepfake.common.security.JwtPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+// 쓰기 트랜잭션을 커밋한 사용자는 일정 시간 동안 읽기도 기본 DB로 보내 자신이 올린/고친 데이터를 바로 보게 함
+// 복제본 지연 허용치보다 길게 잡아야 함 (허용치 이내로 지연된 복제본은 그 시간 전의 쓰기를 모두 반영한 상태)
+public class ReadYourWritesTracker {
+
+    private static final Object REGISTERED = new Object();
+
+    // 사용자 ID -> 최근 쓰기 여부. 항목은 window가 지나면 만료
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maxSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    // 쓰기 트랜잭션이 기본 DB 커넥션을 처음 가져올 때 호출. 커밋된 경우에만 현재 사용자를 기록
+    public void onWriteConnection() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        Long userId = JwtPrincipal.current().map(JwtPrincipal::getUserId).orElse(null);
+        if (userId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, REGISTERED);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReadYourWritesTracker.this);
+            }
+        });
+    }
+
+    public boolean isRecentWriter() {
+        return JwtPrincipal.current()
+                .map(principal -> recentWriters.getIfPresent(principal.getUserId()) != null)
+                .orElse(false);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.deepfake.common.datasource;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+// 복제본으로 갈 수 있는 읽기 전용 트랜잭션은 2차 캐시를 읽기만 하고 채우지 않음 (CacheMode.GET)
+// 지연된 복제본에서 읽은 이전 상태가 캐시 TTL 동안 남아 다른 요청(기본 DB로 가는 쓰기 포함)에 보이지 않도록 함
+// 캐시는 기본 DB에서 읽는 트랜잭션(쓰기 트랜잭션, 최근 쓰기 사용자의 읽기)과 엔티티 저장/수정 시에만 채워짐
+public class ReplicaAwareJpaDialect extends HibernateJpaDialect {
+
+    private final ReplicaHealthMonitor replicaHealthMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaAwareJpaDialect(ReplicaHealthMonitor replicaHealthMonitor,
+                                  ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaHealthMonitor = replicaHealthMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        // 실제 커넥션은 첫 SQL 실행 시점에 고르므로 여기서는 복제본으로 갈 수 있는지만 판단
+        // (복제본 장애로 기본 DB로 넘어간 경우에도 캐시를 채우지 않는 쪽으로 처리)
+        if (!definition.isReadOnly() || !replicaHealthMonitor.hasReplicas()
+                || readYourWritesTracker.isRecentWriter()) {
+            return transactionData;
+        }
+        SessionImplementor session = getSession(entityManager);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReplicaReadTransactionData(transactionData, session, previousCacheMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaReadTransactionData replicaRead) {
+            replicaRead.session().setCacheMode(replicaRead.previousCacheMode());
+            super.cleanupTransaction(replicaRead.delegate());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReplicaReadTransactionData(Object delegate, SessionImplementor session,
+                                              CacheMode previousCacheMode) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.deepfake.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 복제본별 연결 가능 여부와 복제 지연을 주기적으로 확인하고, 사용 가능한 복제본을 순서대로 돌려가며 선택
+// 긴 @Scheduled 작업(정합성 검사, 재집계)에 밀려 상태가 오래 갱신되지 않도록 전용 스레드에서 확인
+@Slf4j
+public class ReplicaHealthMonitor implements AutoCloseable {
+
+    // 복제본이 아니면(내장 PostgreSQL 대체 인스턴스 등) 지연 0
+    // WAL 수신이 끊긴 복제본은 수신/반영 위치가 같아 지연 0으로 보이므로 NULL(사용 불가)로 반환
+    // (status는 pg_read_all_stats 권한이 없으면 NULL로 보이므로 이때는 수신 프로세스 존재 여부만 확인)
+    // 수신한 WAL을 모두 반영했으면 쓰기가 없는 것이므로 0
+    private static final String LAG_QUERY = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver " +
+            "WHERE pid IS NOT NULL AND (status = 'streaming' OR status IS NULL)) THEN NULL " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaHealthMonitor(List<Replica> replicas, Duration maxLag, Duration checkInterval,
+                                MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-health").daemon().factory());
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("복제본 복제 지연 (초, 확인 실패 또는 WAL 수신 중단 시 -1)")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                    .description("복제본 라우팅 대상 여부")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    public void start() {
+        // 첫 확인 전까지는 모든 복제본이 사용 불가 상태이므로 읽기도 기본 DB로 감
+        scheduler.scheduleWithFixedDelay(this::checkAll, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void checkAll() {
+        for (Replica replica : replicas) {
+            check(replica);
+        }
+    }
+
+    public boolean hasReplicas() {
+        return !replicas.isEmpty();
+    }
+
+    // 사용 가능한 복제본을 라운드 로빈으로 선택 (없으면 empty)
+    public Optional<Replica> nextAvailable() {
+        int size = replicas.size();
+        if (size == 0) {
+            return Optional.empty();
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return Optional.of(replica);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 커넥션 획득 실패 시 다음 확인 주기까지 라우팅 대상에서 제외
+    public void markUnavailable(Replica replica, SQLException cause) {
+        if (replica.available) {
+            replica.available = false;
+            log.warn("복제본 {} 커넥션 획득 실패, 기본 DB로 전환: {}", replica.getName(), cause.getMessage());
+        }
+    }
+
+    private void check(Replica replica) {
+        boolean wasAvailable = replica.available;
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, checkInterval.toSeconds()));
+            boolean streaming;
+            try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                double lagSeconds = resultSet.getDouble(1);
+                streaming = !resultSet.wasNull();
+                replica.lagSeconds = streaming ? lagSeconds : -1;
+            }
+            replica.available = streaming && replica.lagSeconds <= maxLag.toMillis() / 1000.0;
+            if (wasAvailable && !streaming) {
+                log.warn("복제본 {} WAL 수신이 중단되어 기본 DB로 전환", replica.getName());
+            } else if (wasAvailable && !replica.available) {
+                log.warn("복제본 {} 지연 {}초가 허용치({})를 넘어 기본 DB로 전환", replica.getName(), replica.lagSeconds, maxLag);
+            } else if (!wasAvailable && replica.available) {
+                log.info("복제본 {} 읽기 라우팅 재개 (지연 {}초)", replica.getName(), replica.lagSeconds);
+            }
+        } catch (SQLException | RuntimeException e) {
+            replica.lagSeconds = -1;
+            replica.available = false;
+            if (wasAvailable) {
+                log.warn("복제본 {} 상태 확인 실패, 기본 DB로 전환: {}", replica.getName(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("복제본 {} 커넥션 풀 종료 실패", replica.getName(), e);
+                }
+            }
+        }
+    }
+
+    public static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+        private volatile double lagSeconds = -1;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+    }
+}
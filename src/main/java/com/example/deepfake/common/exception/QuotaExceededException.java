@@ -0,0 +1,12 @@
+package com.example.deepfake.common.exception;
+
+public class QuotaExceededException extends RuntimeException {
+    
+    public QuotaExceededException(String message) {
+        super(message);
+    }
+    
+    public QuotaExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.deepfake.common.exception;
+
+public class StorageException extends RuntimeException {
+    
+    public StorageException(String message) {
+        super(message);
+    }
+    
+    public StorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.deepfake.common.exception;
+
+// 저장소 API 호출 한도 초과 (HTTP 420/429)
+public class StorageRateLimitedException extends StorageException {
+    
+    public StorageRateLimitedException(String message) {
+        super(message);
+    }
+}
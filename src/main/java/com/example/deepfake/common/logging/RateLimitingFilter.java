@@ -0,0 +1,63 @@
+package com.example.deepfake.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 같은 로거/메시지 템플릿의 WARN 이상 로그를 구간(intervalSeconds)당 maxPerInterval 건으로 제한
+// 장애 시 요청마다 같은 스택 트레이스가 쏟아져 로그 처리량이 포화되는 것을 방지
+public class RateLimitingFilter extends Filter<ILoggingEvent> {
+    
+    private static final int MAX_KEYS = 10_000;
+    
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+    private Level minLevel = Level.WARN;
+    private int maxPerInterval = 20;
+    private long intervalNanos = TimeUnit.SECONDS.toNanos(60);
+    
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (event.getLevel().toInt() < minLevel.toInt()) {
+            return FilterReply.NEUTRAL;
+        }
+        
+        // 메시지 템플릿 기준이므로 인자 값이 달라도 같은 종류의 로그로 취급
+        String key = event.getLoggerName() + '|' + event.getMessage();
+        if (windows.size() >= MAX_KEYS && !windows.containsKey(key)) {
+            windows.clear();
+        }
+        Window window = windows.computeIfAbsent(key, k -> new Window());
+        return window.tryAcquire(System.nanoTime()) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+    
+    public void setMinLevel(String minLevel) {
+        this.minLevel = Level.toLevel(minLevel, Level.WARN);
+    }
+    
+    public void setMaxPerInterval(int maxPerInterval) {
+        this.maxPerInterval = maxPerInterval;
+    }
+    
+    public void setIntervalSeconds(long intervalSeconds) {
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(intervalSeconds);
+    }
+    
+    private final class Window {
+        
+        private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+        private final AtomicLong count = new AtomicLong();
+        
+        boolean tryAcquire(long now) {
+            long start = windowStart.get();
+            if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= maxPerInterval;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.deepfake.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// 카테고리(로거 이름 접두사)별 로그 샘플링 필터 (logback-spring.xml에서 설정)
+// maxLevel 이하 레벨의 이벤트만 rate 비율로 통과시키고, 그보다 높은 레벨은 그대로 둠
+public class SamplingFilter extends Filter<ILoggingEvent> {
+    
+    private String loggerPrefix = "";
+    private Level maxLevel = Level.INFO;
+    private double rate = 1.0;
+    
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (rate >= 1.0
+                || event.getLevel().toInt() > maxLevel.toInt()
+                || !event.getLoggerName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (rate <= 0 || ThreadLocalRandom.current().nextDouble() >= rate) {
+            return FilterReply.DENY;
+        }
+        return FilterReply.NEUTRAL;
+    }
+    
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+    
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+    
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+}
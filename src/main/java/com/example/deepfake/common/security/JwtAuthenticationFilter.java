@@ -1,6 +1,9 @@
 package com.example.deepfake.common.security;
 
 import com.example.deepfake.auth.service.JwtService;
+import com.example.deepfake.common.tracing.PhaseTracer;
+import com.example.deepfake.user.service.UserStatusService;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +11,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -16,14 +22,24 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
+    // CustomUserDetailsService가 부여하는 권한과 동일
+    private static final List<GrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final UserStatusService userStatusService;
+    
+    // true이면 토큰 클레임만으로 인증 (요청당 DB 조회 없음), false이면 기존처럼 매 요청 사용자 조회
+    @Value("${security.auth.stateless:true}")
+    private boolean stateless;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -31,28 +47,40 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                   FilterChain filterChain) throws ServletException, IOException {
         
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userEmail;
         
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
         
-        jwt = authHeader.substring(7);
-        try {
-            userEmail = jwtService.getEmailFromToken(jwt);
+        final String jwt = authHeader.substring(7);
+        try (PhaseTracer.Scope ignored = PhaseTracer.start("auth")) {
+            // 토큰은 요청당 한 번만 파싱/검증하고, 이후에는 SecurityContext의 주체를 사용
+            JwtPrincipal principal = jwtService.parseAccessToken(jwt);
             
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-                
-                if (jwtService.validateToken(jwt)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+            if (principal.getUserId() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                Collection<? extends GrantedAuthority> authorities;
+                if (stateless) {
+                    // 탈퇴 등 폐기 확인은 TTL 캐시로 처리 (비활성화 시 조회 없음)
+                    if (!userStatusService.isActive(principal.getUserId())) {
+                        log.warn("비활성 사용자의 토큰: {}", principal.getUserId());
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
+                    authorities = USER_AUTHORITIES;
+                } else {
+                    UserDetails userDetails = this.userDetailsService.loadUserByUsername(principal.getEmail());
+                    authorities = userDetails.getAuthorities();
                 }
+                
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        principal, null, authorities);
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
+        } catch (JwtException | IllegalArgumentException e) {
+            // 만료/위조 토큰은 예상된 실패이므로 스택 트레이스 없이 DEBUG로만 기록
+            log.debug("유효하지 않은 JWT 토큰: {}", e.getMessage());
         } catch (Exception e) {
             log.error("JWT 토큰 처리 중 오류 발생", e);
         }
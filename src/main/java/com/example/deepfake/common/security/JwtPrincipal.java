@@ -0,0 +1,24 @@
+package com.example.deepfake.common.security;
+
+import lombok.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+// 검증된 액세스 토큰의 클레임으로 만든 불변 인증 주체
+@Value
+public class JwtPrincipal {
+    
+    Long userId;
+    String email;
+    String name;
+    
+    public static Optional<JwtPrincipal> current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return Optional.of(principal);
+        }
+        return Optional.empty();
+    }
+}
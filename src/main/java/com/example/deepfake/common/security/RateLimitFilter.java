@@ -0,0 +1,70 @@
+package com.example.deepfake.common.security;
+
+import com.example.deepfake.common.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// JwtAuthenticationFilter 다음에 실행되어 사용자 ID 기준 한도 적용이 가능하며,
+// 컨트롤러/서비스(검색 쿼리, bcrypt, 업로드 파싱) 이전에 초과 요청을 거절
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        
+        Optional<RateLimiter.Decision> decision = rateLimiter.check(request);
+        if (decision.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        RateLimiter.Decision limit = decision.get();
+        long resetSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(limit.result().resetNanos() + 999_999_999L));
+        response.setHeader("RateLimit-Limit", String.valueOf(limit.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(limit.result().remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(resetSeconds));
+        
+        if (limit.result().allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        log.warn("요청 한도 초과: 규칙 {}, {} {}", limit.rule(), request.getMethod(), request.getRequestURI());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .success(false)
+                .errorCode("TOO_MANY_REQUESTS")
+                .message("요청이 너무 많습니다. 잠시 후 다시 시도해주세요")
+                .timestamp(LocalDateTime.now())
+                .build();
+        
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(resetSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
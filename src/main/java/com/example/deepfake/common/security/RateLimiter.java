@@ -0,0 +1,112 @@
+package com.example.deepfake.common.security;
+
+import com.example.deepfake.common.config.RateLimitProperties;
+import com.example.deepfake.common.util.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 경로 규칙별 토큰 버킷 관리. 버킷 맵은 ConcurrentHashMap(버킷 단위 잠금)이고 버킷 자체는 CAS로 갱신
+@Component
+@Slf4j
+public class RateLimiter {
+    
+    private final RateLimitProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Counter> allowedCounters = new HashMap<>();
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+    
+    public RateLimiter(RateLimitProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder("rate.limit.buckets", buckets, Map::size)
+                    .description("활성 토큰 버킷 수")
+                    .register(registry);
+            for (RateLimitProperties.Rule rule : properties.getRules()) {
+                allowedCounters.put(rule.getName(), Counter.builder("rate.limit.requests")
+                        .tag("rule", rule.getName()).tag("outcome", "allowed").register(registry));
+                rejectedCounters.put(rule.getName(), Counter.builder("rate.limit.requests")
+                        .tag("rule", rule.getName()).tag("outcome", "rejected").register(registry));
+            }
+        }
+    }
+    
+    public Optional<Decision> check(HttpServletRequest request) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimitProperties.Rule rule = findRule(request.getMethod(), path);
+        if (rule == null) {
+            return Optional.empty();
+        }
+        
+        long now = System.nanoTime();
+        String bucketKey = rule.getName() + ":" + clientKey(rule, request);
+        TokenBucket bucket = buckets.computeIfAbsent(bucketKey, key -> new TokenBucket(
+                rule.getCapacity(), rule.getRefillTokens(), rule.getRefillPeriod().toNanos(), now));
+        
+        TokenBucket.Result result = bucket.tryConsume(now);
+        Counter counter = (result.allowed() ? allowedCounters : rejectedCounters).get(rule.getName());
+        if (counter != null) {
+            counter.increment();
+        }
+        return Optional.of(new Decision(rule.getName(), bucket.getCapacity(), result));
+    }
+    
+    private RateLimitProperties.Rule findRule(String method, String path) {
+        List<RateLimitProperties.Rule> rules = properties.getRules();
+        for (RateLimitProperties.Rule rule : rules) {
+            if (!rule.getMethods().isEmpty() && !rule.getMethods().contains(method.toUpperCase(Locale.ROOT))) {
+                continue;
+            }
+            if (pathMatcher.match(rule.getPath(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+    
+    private String clientKey(RateLimitProperties.Rule rule, HttpServletRequest request) {
+        if (rule.getKey() == RateLimitProperties.KeyType.USER) {
+            Optional<JwtPrincipal> principal = JwtPrincipal.current();
+            if (principal.isPresent()) {
+                return "u" + principal.get().getUserId();
+            }
+        }
+        // server.forward-headers-strategy=native 이면 프록시 뒤에서도 실제 클라이언트 IP
+        return "ip" + request.getRemoteAddr();
+    }
+    
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleEviction().toNanos();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("유휴 토큰 버킷 제거: {} 개 (남은 버킷 {})", evicted, buckets.size());
+        }
+    }
+    
+    public record Decision(String rule, long limit, TokenBucket.Result result) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.deepfake.common.security;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+// 검증된 리프레시 토큰의 클레임 (회전/폐기 판단에 필요한 jti와 만료 시각 포함)
+@Value
+public class RefreshTokenClaims {
+    
+    Long userId;
+    String email;
+    String tokenId;
+    Instant expiresAt;
+}
@@ -0,0 +1,38 @@
+package com.example.deepfake.common.tracing;
+
+// 요청 단계 추적 진입점. 추적 중이 아닌 스레드(스케줄러 등)나 추적 비활성 시에는
+// ThreadLocal 조회 한 번 후 공유 no-op 스팬을 반환하므로 부가 비용이 거의 없음
+public final class PhaseTracer {
+    
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+    
+    private static final Scope NOOP = () -> {
+    };
+    
+    private PhaseTracer() {
+    }
+    
+    // try-with-resources로 사용 (close에서 예외를 던지지 않음)
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+    
+    public static Scope start(String phase) {
+        RequestTrace trace = CURRENT.get();
+        return trace != null ? trace.open(phase) : NOOP;
+    }
+    
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+    
+    static void begin(RequestTrace trace) {
+        CURRENT.set(trace);
+    }
+    
+    static void end() {
+        CURRENT.remove();
+    }
+}
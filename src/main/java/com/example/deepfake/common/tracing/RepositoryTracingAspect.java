@@ -0,0 +1,21 @@
+package com.example.deepfake.common.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 리포지토리 호출 시간을 db 단계로 기록 (지연 로딩 쿼리는 호출한 단계/app에 포함됨)
+@Aspect
+@Component
+@ConditionalOnProperty(name = "tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryTracingAspect {
+    
+    @Around("execution(* com.example.deepfake..repository.*Repository.*(..))")
+    public Object traceRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (PhaseTracer.Scope ignored = PhaseTracer.start("db")) {
+            return joinPoint.proceed();
+        }
+    }
+}
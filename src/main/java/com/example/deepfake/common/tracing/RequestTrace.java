@@ -0,0 +1,112 @@
+package com.example.deepfake.common.tracing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 요청 하나의 단계별 소요 시간 (요청 스레드 전용이므로 동기화 없음)
+// 단계 시간은 자기 시간(self time) 기준: 중첩된 하위 단계 시간은 상위 단계에서 제외
+public class RequestTrace {
+    
+    private final long startNanos = System.nanoTime();
+    private final Map<String, PhaseStats> phases = new LinkedHashMap<>();
+    private Span current;
+    
+    Span open(String phase) {
+        current = new Span(this, phase, current);
+        return current;
+    }
+    
+    void close(Span span, long elapsedNanos) {
+        phases.computeIfAbsent(span.phase, key -> new PhaseStats())
+                .add(elapsedNanos - span.childNanos);
+        if (span.parent != null) {
+            span.parent.childNanos += elapsedNanos;
+        }
+        current = span.parent;
+    }
+    
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+    
+    public Map<String, PhaseStats> getPhases() {
+        return phases;
+    }
+    
+    // Server-Timing 헤더 값: 측정된 단계 + 나머지(app) + 전체(total), 단위 ms
+    public String toServerTiming() {
+        long total = elapsedNanos();
+        long measured = 0;
+        StringBuilder header = new StringBuilder(128);
+        for (Map.Entry<String, PhaseStats> entry : phases.entrySet()) {
+            PhaseStats stats = entry.getValue();
+            measured += stats.nanos;
+            header.append(entry.getKey()).append(";dur=").append(formatMillis(stats.nanos));
+            if (stats.count > 1) {
+                header.append(";desc=\"").append(stats.count).append(" calls\"");
+            }
+            header.append(", ");
+        }
+        header.append("app;dur=").append(formatMillis(Math.max(0, total - measured)));
+        header.append(", total;dur=").append(formatMillis(total));
+        return header.toString();
+    }
+    
+    // 로그용 key=value 형식 (phase_ms/phase_count)
+    public String toLogFields() {
+        StringBuilder fields = new StringBuilder(128);
+        for (Map.Entry<String, PhaseStats> entry : phases.entrySet()) {
+            if (fields.length() > 0) {
+                fields.append(' ');
+            }
+            fields.append(entry.getKey()).append("_ms=").append(formatMillis(entry.getValue().nanos))
+                    .append(' ').append(entry.getKey()).append("_count=").append(entry.getValue().count);
+        }
+        return fields.toString();
+    }
+    
+    static String formatMillis(long nanos) {
+        // 소수점 한 자리까지 (String.format 없이)
+        long tenths = (nanos + 50_000) / 100_000;
+        return (tenths / 10) + "." + (tenths % 10);
+    }
+    
+    public static class PhaseStats {
+        
+        private long nanos;
+        private int count;
+        
+        void add(long elapsedNanos) {
+            nanos += elapsedNanos;
+            count++;
+        }
+        
+        public long getNanos() {
+            return nanos;
+        }
+        
+        public int getCount() {
+            return count;
+        }
+    }
+    
+    public static class Span implements PhaseTracer.Scope {
+        
+        private final RequestTrace trace;
+        private final String phase;
+        private final Span parent;
+        private final long startNanos = System.nanoTime();
+        private long childNanos;
+        
+        private Span(RequestTrace trace, String phase, Span parent) {
+            this.trace = trace;
+            this.phase = phase;
+            this.parent = parent;
+        }
+        
+        @Override
+        public void close() {
+            trace.close(this, System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.deepfake.common.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 보안 필터보다 먼저 실행되어 인증 단계까지 포함해 요청 단계 시간을 수집
+// Server-Timing 헤더는 tracing.server-timing-header를 켠 경우에만 응답 본문 직렬화 직전(ServerTimingResponseAdvice)에 기록하고,
+// 직렬화까지 포함한 전체 내역은 샘플링된 요청과 느린 요청만 로그로 남김
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class RequestTracingFilter extends OncePerRequestFilter {
+    
+    @Value("${tracing.enabled:true}")
+    private boolean enabled;
+    
+    // ServerTimingResponseAdvice와 같은 설정 (기본 비활성화)
+    @Value("${tracing.server-timing-header:false}")
+    private boolean serverTimingHeaderEnabled;
+    
+    @Value("${tracing.log-sample-rate:0.01}")
+    private double logSampleRate;
+    
+    @Value("${tracing.slow-request-threshold:1s}")
+    private Duration slowRequestThreshold;
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestTrace trace = new RequestTrace();
+        PhaseTracer.begin(trace);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PhaseTracer.end();
+            
+            // 본문이 없는 응답(204, 리디렉션 등)은 여기서 헤더 기록
+            if (serverTimingHeaderEnabled && !response.isCommitted()
+                    && !response.containsHeader(ServerTimingResponseAdvice.HEADER)) {
+                response.setHeader(ServerTimingResponseAdvice.HEADER, trace.toServerTiming());
+            }
+            logIfSampled(request, response, trace);
+        }
+    }
+    
+    private void logIfSampled(HttpServletRequest request, HttpServletResponse response, RequestTrace trace) {
+        long elapsedNanos = trace.elapsedNanos();
+        boolean slow = elapsedNanos >= slowRequestThreshold.toNanos();
+        if (!slow && (logSampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= logSampleRate)) {
+            return;
+        }
+        log.info("request_trace method={} path={} status={} total_ms={} slow={} {}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(),
+                RequestTrace.formatMillis(elapsedNanos), slow, trace.toLogFields());
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.deepfake.common.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// 직렬화 직전까지의 단계 시간을 Server-Timing 헤더로 기록 (헤더는 본문 전송 전에만 쓸 수 있음)
+// 단계 시간이 클라이언트에 그대로 노출되므로 명시적으로 켠 환경(로컬/스테이징)에서만 사용
+@RestControllerAdvice
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+    
+    static final String HEADER = "Server-Timing";
+    
+    @Value("${tracing.server-timing-header:false}")
+    private boolean headerEnabled;
+    
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return headerEnabled;
+    }
+    
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        RequestTrace trace = PhaseTracer.current();
+        if (trace != null) {
+            response.getHeaders().set(HEADER, trace.toServerTiming());
+        }
+        return body;
+    }
+}
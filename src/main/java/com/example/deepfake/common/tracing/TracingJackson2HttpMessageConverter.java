@@ -0,0 +1,25 @@
+package com.example.deepfake.common.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+// JSON 응답 직렬화 시간을 serialize 단계로 기록 (헤더 전송 이후이므로 로그에만 반영)
+public class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+    
+    public TracingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+    
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        try (PhaseTracer.Scope ignored = PhaseTracer.start("serialize")) {
+            super.writeInternal(object, type, outputMessage);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.deepfake.common.util;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// 락 없이 CAS로 갱신하는 토큰 버킷. 상태는 불변 객체로 교체하므로 토큰 수와 충전 시각이 항상 함께 바뀜
+public class TokenBucket {
+    
+    private final long capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+    
+    public TokenBucket(long capacity, long refillTokens, long refillPeriodNanos, long nowNanos) {
+        if (capacity <= 0 || refillTokens <= 0 || refillPeriodNanos <= 0) {
+            throw new IllegalArgumentException("버킷 크기와 충전 속도는 0보다 커야 합니다");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = (double) refillTokens / refillPeriodNanos;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+    
+    public long getCapacity() {
+        return capacity;
+    }
+    
+    public Result tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double available = refill(current, nowNanos);
+            if (available < 1) {
+                long waitNanos = (long) Math.ceil((1 - available) / tokensPerNano);
+                return new Result(false, 0, waitNanos);
+            }
+            
+            State next = new State(available - 1, Math.max(current.updatedAtNanos, nowNanos));
+            if (state.compareAndSet(current, next)) {
+                long untilFullNanos = (long) Math.ceil((capacity - next.tokens) / tokensPerNano);
+                return new Result(true, (long) next.tokens, untilFullNanos);
+            }
+        }
+    }
+    
+    // 마지막 사용 후 idleNanos 이상 지났고 가득 찼으면 제거해도 새 버킷과 동일
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        State current = state.get();
+        return nowNanos - current.updatedAtNanos >= idleNanos && refill(current, nowNanos) >= capacity;
+    }
+    
+    private double refill(State current, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - current.updatedAtNanos);
+        return Math.min(capacity, current.tokens + elapsed * tokensPerNano);
+    }
+    
+    private record State(double tokens, long updatedAtNanos) {
+    }
+    
+    // remaining: 남은 토큰 수, resetNanos: 허용 시 가득 찰 때까지, 거절 시 다음 토큰까지의 시간
+    public record Result(boolean allowed, long remaining, long resetNanos) {
+    }
+}
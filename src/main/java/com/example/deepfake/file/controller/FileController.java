@@ -1,5 +1,9 @@
 package com.example.deepfake.file.controller;
 
+import com.example.deepfake.file.dto.FileBatchResponse;
+import com.example.deepfake.file.dto.FileBulkDeleteRequest;
+import com.example.deepfake.file.dto.FileBulkResponse;
+import com.example.deepfake.file.dto.FileBulkUpdateRequest;
 import com.example.deepfake.file.dto.FileUpdateRequest;
 import com.example.deepfake.file.dto.FileDetailResponse;
 import com.example.deepfake.file.dto.FileItemDto;
@@ -7,6 +11,7 @@ import com.example.deepfake.file.dto.FileListResponse;
 import com.example.deepfake.file.dto.PublicFileListResponse;
 import com.example.deepfake.common.dto.SuccessResponse;
 import com.example.deepfake.file.service.FileService;
+import com.example.deepfake.file.service.StorageMetrics;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -23,9 +28,9 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import com.example.deepfake.auth.service.JwtService;
+import com.example.deepfake.common.security.CurrentUserId;
 
-import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
@@ -41,16 +46,7 @@ import java.util.List;
 public class FileController {
     
     private final FileService fileService;
-    private final JwtService jwtService;
-    
-    private Long getUserIdFromRequest(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            return jwtService.getUserIdFromToken(token);
-        }
-        throw new RuntimeException("인증 토큰이 없습니다");
-    }
+    private final StorageMetrics storageMetrics;
     
     @PostMapping("/upload")
     @Operation(summary = "파일 업로드", description = "이미지 또는 영상 파일을 업로드합니다")
@@ -58,9 +54,8 @@ public class FileController {
     public ResponseEntity<SuccessResponse<List<FileItemDto>>> uploadFiles(
             @RequestParam(name = "files") List<MultipartFile> files,
             @RequestParam(name = "titles") List<String> titles,
-            HttpServletRequest request) {
-        Long userId = getUserIdFromRequest(request);
-        log.info("파일 업로드 요청: 사용자 {}, 파일 개수 {}", userId, files.size());
+            @CurrentUserId Long userId) {
+        log.debug("파일 업로드 요청: 사용자 {}, 파일 개수 {}", userId, files.size());
         List<FileItemDto> response = fileService.uploadFiles(files, titles, userId);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(SuccessResponse.<List<FileItemDto>>builder()
@@ -79,9 +74,8 @@ public class FileController {
             @Parameter(description = "페이지 크기") @RequestParam(name = "size", defaultValue = "20") int size,
             @Parameter(description = "정렬 기준") @RequestParam(name = "sort", defaultValue = "uploadedAt") String sort,
             @Parameter(description = "정렬 순서") @RequestParam(name = "order", defaultValue = "desc") String order,
-            HttpServletRequest request) {
-        Long userId = getUserIdFromRequest(request);
-        log.info("내 파일 목록 조회 요청: 사용자 {}, 타입 {}", userId, type);
+            @CurrentUserId Long userId) {
+        log.debug("내 파일 목록 조회 요청: 사용자 {}, 타입 {}", userId, type);
         
         Sort.Direction direction = "desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by(direction, sort));
@@ -90,6 +84,18 @@ public class FileController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping(value = "/my/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "내 파일 목록 내보내기", description = "현재 사용자가 업로드한 전체 파일 메타데이터를 NDJSON 형식으로 스트리밍합니다")
+    @SecurityRequirement(name = "bearerAuth")
+    public void exportMyFiles(@CurrentUserId Long userId, HttpServletResponse response) throws IOException {
+        log.debug("내 파일 목록 내보내기 요청: 사용자 {}", userId);
+        
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"my-files.ndjson\"");
+        fileService.exportMyFiles(userId, response.getOutputStream());
+    }
+    
     @GetMapping("/public")
     @Operation(summary = "공개 파일 목록 조회", description = "모든 사용자가 업로드한 공개 파일 목록을 조회합니다")
     public ResponseEntity<PublicFileListResponse> getPublicFiles(
@@ -98,7 +104,7 @@ public class FileController {
             @Parameter(description = "페이지 크기") @RequestParam(name = "size", defaultValue = "20") int size,
             @Parameter(description = "정렬 기준") @RequestParam(name = "sort", defaultValue = "uploadedAt") String sort,
             @Parameter(description = "정렬 순서") @RequestParam(name = "order", defaultValue = "desc") String order) {
-        log.info("공개 파일 목록 조회 요청: 타입 {}", type);
+        log.debug("공개 파일 목록 조회 요청: 타입 {}", type);
         
         Sort.Direction direction = "desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by(direction, sort));
@@ -114,7 +120,7 @@ public class FileController {
             @Parameter(description = "파일 타입 필터") @RequestParam(name = "type", defaultValue = "all") String type,
             @Parameter(description = "페이지 번호") @RequestParam(name = "page", defaultValue = "1") int page,
             @Parameter(description = "페이지 크기") @RequestParam(name = "size", defaultValue = "20") int size) {
-        log.info("파일 검색 요청: 키워드 {}, 타입 {}", q, type);
+        log.debug("파일 검색 요청: 키워드 {}, 타입 {}", q, type);
         
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "uploadedAt"));
         
@@ -122,12 +128,22 @@ public class FileController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/batch")
+    @Operation(summary = "파일 일괄 조회", description = "여러 파일의 상세 정보를 요청한 순서대로 한 번에 조회합니다")
+    public ResponseEntity<FileBatchResponse> getFilesByIds(
+            @Parameter(description = "파일 ID 목록 (쉼표로 구분)") @RequestParam(name = "ids") List<Long> ids) {
+        log.debug("파일 일괄 조회 요청: {} 개", ids.size());
+        FileBatchResponse response = fileService.getFilesByIds(ids);
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/{fileId}")
     @Operation(summary = "파일 상세 정보 조회", description = "특정 파일의 상세 정보를 조회합니다")
     public ResponseEntity<FileDetailResponse> getFileDetail(
-            @Parameter(description = "파일 ID") @PathVariable("fileId") Long fileId) {
-        log.info("파일 상세 정보 조회 요청: {}", fileId);
-        FileDetailResponse response = fileService.getFileDetail(fileId);
+            @Parameter(description = "파일 ID") @PathVariable("fileId") Long fileId,
+            @CurrentUserId Long userId) {
+        log.debug("파일 상세 정보 조회 요청: {}", fileId);
+        FileDetailResponse response = fileService.getFileDetail(fileId, userId);
         return ResponseEntity.ok(response);
     }
 
@@ -146,6 +162,7 @@ public class FileController {
             if (contentType == null) {
                 contentType = "application/octet-stream";
             }
+            storageMetrics.recordBytesServed(fileData.length);
             
             return ResponseEntity.ok()
                     .contentType(MediaType.parseMediaType(contentType))
@@ -161,9 +178,8 @@ public class FileController {
     @SecurityRequirement(name = "bearerAuth")
     public ResponseEntity<SuccessResponse<Void>> deleteFile(
             @Parameter(description = "파일 ID") @PathVariable("fileId") Long fileId,
-            HttpServletRequest request) {
-        Long userId = getUserIdFromRequest(request);
-        log.info("파일 삭제 요청: 파일 {}, 사용자 {}", fileId, userId);
+            @CurrentUserId Long userId) {
+        log.debug("파일 삭제 요청: 파일 {}, 사용자 {}", fileId, userId);
         fileService.deleteFile(fileId, userId);
         return ResponseEntity.ok(SuccessResponse.<Void>builder()
                 .success(true)
@@ -171,15 +187,36 @@ public class FileController {
                 .build());
     }
     
+    @PostMapping("/bulk-delete")
+    @Operation(summary = "파일 일괄 삭제", description = "본인이 업로드한 여러 파일을 한 번에 삭제하고 ID별 결과를 반환합니다")
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<FileBulkResponse> deleteFiles(
+            @Valid @RequestBody FileBulkDeleteRequest request,
+            @CurrentUserId Long userId) {
+        log.debug("파일 일괄 삭제 요청: 사용자 {}, {} 개", userId, request.getIds().size());
+        FileBulkResponse response = fileService.deleteFiles(request.getIds(), userId);
+        return ResponseEntity.ok(response);
+    }
+    
+    @PatchMapping("/bulk")
+    @Operation(summary = "파일 정보 일괄 수정", description = "본인이 업로드한 여러 파일의 제목을 한 번에 수정하고 ID별 결과를 반환합니다")
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<FileBulkResponse> updateFiles(
+            @Valid @RequestBody FileBulkUpdateRequest request,
+            @CurrentUserId Long userId) {
+        log.debug("파일 정보 일괄 수정 요청: 사용자 {}, {} 개", userId, request.getItems().size());
+        FileBulkResponse response = fileService.updateFiles(request.getItems(), userId);
+        return ResponseEntity.ok(response);
+    }
+    
     @PutMapping("/{fileId}")
     @Operation(summary = "파일 정보 수정", description = "파일의 제목 등 메타데이터를 수정합니다")
     @SecurityRequirement(name = "bearerAuth")
     public ResponseEntity<SuccessResponse<FileItemDto>> updateFile(
             @Parameter(description = "파일 ID") @PathVariable("fileId") Long fileId,
             @Valid @RequestBody FileUpdateRequest updateRequest,
-            HttpServletRequest request) {
-        Long userId = getUserIdFromRequest(request);
-        log.info("파일 정보 수정 요청: 파일 {}, 사용자 {}", fileId, userId);
+            @CurrentUserId Long userId) {
+        log.debug("파일 정보 수정 요청: 파일 {}, 사용자 {}", fileId, userId);
         FileItemDto response = fileService.updateFile(fileId, updateRequest, userId);
         return ResponseEntity.ok(SuccessResponse.<FileItemDto>builder()
                 .success(true)
@@ -192,7 +229,7 @@ public class FileController {
     @Operation(summary = "파일 다운로드", description = "파일을 다운로드합니다")
     public ResponseEntity<byte[]> downloadFile(
             @Parameter(description = "파일 ID") @PathVariable("fileId") Long fileId) {
-        log.info("파일 다운로드 요청: {}", fileId);
+        log.debug("파일 다운로드 요청: {}", fileId);
         byte[] fileData = fileService.downloadFile(fileId);
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
@@ -203,14 +240,14 @@ public class FileController {
     @Operation(summary = "파일 스트리밍 (Redirect to Cloudinary)", description = "Cloudinary URL로 리디렉션합니다")
     public ResponseEntity<Void> streamFile(
             @Parameter(description = "파일 ID") @PathVariable("fileId") Long fileId) {
-        log.info("파일 스트리밍 요청 (Cloudinary 리디렉션): {}", fileId);
+        log.debug("파일 스트리밍 요청 (Cloudinary 리디렉션): {}", fileId);
         
         try {
             // 파일 상세 정보 조회
             FileDetailResponse fileDetail = fileService.getFileDetail(fileId);
             String cloudinaryUrl = fileDetail.getData().getUrl();
             
-            log.info("Cloudinary URL로 리디렉션: {} -> {}", fileId, cloudinaryUrl);
+            log.debug("Cloudinary URL로 리디렉션: {} -> {}", fileId, cloudinaryUrl);
             
             // Cloudinary URL로 리디렉션
             return ResponseEntity.status(HttpStatus.MOVED_PERMANENTLY)
@@ -0,0 +1,28 @@
+package com.example.deepfake.file.controller;
+
+import com.example.deepfake.common.security.JwtPrincipal;
+import com.example.deepfake.user.service.UserStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 업로드 본문을 읽기 전에 Content-Length 기준으로 저장 용량 한도를 검사
+// (spring.servlet.multipart.resolve-lazily=true 여야 파일 전송 전에 거절됨)
+@Component
+@RequiredArgsConstructor
+public class UploadQuotaInterceptor implements HandlerInterceptor {
+    
+    private final UserStorageService userStorageService;
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > 0) {
+            JwtPrincipal.current().ifPresent(principal ->
+                    userStorageService.checkQuota(principal.getUserId(), contentLength, 0));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.deepfake.file.dto;
+
+import com.example.deepfake.dto.response.PublicFileItemDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileBatchResponse {
+    
+    private Boolean success;
+    private FileBatchData data;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FileBatchData {
+        // 요청한 ID 순서대로 정렬된 파일 목록
+        private List<PublicFileItemDto> files;
+        // 존재하지 않는 파일 ID 목록
+        private List<Long> missingIds;
+    }
+}
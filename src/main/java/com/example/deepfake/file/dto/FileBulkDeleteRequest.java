@@ -0,0 +1,13 @@
+package com.example.deepfake.file.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class FileBulkDeleteRequest {
+    
+    @NotEmpty(message = "삭제할 파일 ID 목록은 필수입니다")
+    private List<Long> ids;
+}
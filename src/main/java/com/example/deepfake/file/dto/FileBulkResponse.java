@@ -0,0 +1,43 @@
+package com.example.deepfake.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileBulkResponse {
+    
+    private Boolean success;
+    private FileBulkData data;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FileBulkData {
+        // 요청한 ID 순서대로 정렬된 ID별 처리 결과
+        private List<FileBulkResult> results;
+        private Integer succeeded;
+        private Integer failed;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FileBulkResult {
+        private Long id;
+        private Outcome outcome;
+    }
+    
+    // 본인 소유가 아닌 파일도 존재 여부를 노출하지 않도록 NOT_FOUND로 응답
+    public enum Outcome {
+        DELETED, UPDATED, NOT_FOUND
+    }
+}
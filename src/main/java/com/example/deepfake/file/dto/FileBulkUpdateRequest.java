@@ -0,0 +1,28 @@
+package com.example.deepfake.file.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class FileBulkUpdateRequest {
+    
+    @NotEmpty(message = "수정할 파일 목록은 필수입니다")
+    private List<@Valid @NotNull Item> items;
+    
+    @Data
+    public static class Item {
+        
+        @NotNull(message = "파일 ID는 필수입니다")
+        private Long id;
+        
+        @NotBlank(message = "제목은 필수입니다")
+        @Size(max = 100, message = "제목은 100자 이하여야 합니다")
+        private String title;
+    }
+}
@@ -14,4 +14,6 @@ public class FileDetailResponse {
     
     private Boolean success;
     private PublicFileItemDto data;
+    // 고유 조회자 수 (근사치)
+    private Long uniqueViewers;
 }
@@ -0,0 +1,18 @@
+package com.example.deepfake.file.dto;
+
+import com.example.deepfake.file.entity.File;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 일괄 삭제/수정 시 소유권 확인과 통계 반영에 필요한 열만 조회
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OwnedFileSnapshot {
+    
+    private Long id;
+    private String name;
+    private File.FileType type;
+    private Long size;
+}
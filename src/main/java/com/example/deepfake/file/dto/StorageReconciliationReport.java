@@ -0,0 +1,26 @@
+package com.example.deepfake.file.dto;
+
+import lombok.Data;
+
+// 저장소/DB 정합성 검사 결과
+@Data
+public class StorageReconciliationReport {
+    
+    // 저장소 -> DB: 확인한 리소스 수와 DB에 기록이 없는 리소스 수
+    private long scannedAssets;
+    private long orphanAssets;
+    
+    // DB -> 저장소: 확인한 파일 행 수와 저장소에 리소스가 없는 행 수
+    private long scannedFiles;
+    private long missingAssets;
+    
+    // 정리(삭제 대기열 기록/행 삭제)한 건수
+    private long purgedAssets;
+    private long purgedFiles;
+    
+    // 호출 수 제한으로 중단되었으면 false (다음 실행에서 중단된 단계부터 이어서 검사)
+    private boolean complete = true;
+    
+    // 다른 인스턴스가 임대를 가지고 실행 중이라 검사하지 않았으면 true
+    private boolean skipped;
+}
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,12 +14,19 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "files")
+@Table(name = "files", indexes = {
+    @Index(name = "idx_files_user_id", columnList = "user_id"),
+    // 저장소 정합성 검사에서 public_id 목록으로 조회
+    @Index(name = "idx_files_name", columnList = "name")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+// 상세 조회가 반복되는 단건 조회용 (목록/검색 쿼리 결과는 캐시하지 않음)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "files")
 public class File {
     
     @Id
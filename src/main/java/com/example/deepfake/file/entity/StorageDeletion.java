@@ -0,0 +1,46 @@
+package com.example.deepfake.file.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 스토리지 삭제 대기열(outbox). files 행 삭제와 같은 트랜잭션에서 기록되고,
+// StorageDeletionService가 일괄 삭제 API로 처리한 뒤 제거함
+@Entity
+@Table(name = "storage_deletion_outbox", indexes = {
+        @Index(name = "idx_storage_deletion_outbox_next_attempt_at", columnList = "next_attempt_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorageDeletion {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "public_id", nullable = false)
+    private String publicId;
+    
+    @Column(name = "resource_type", nullable = false, length = 10)
+    private String resourceType;
+    
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+    
+    // 처리 대상 시각. 처리 중에는 임대 만료 시각, 실패 시에는 재시도 시각으로 갱신
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
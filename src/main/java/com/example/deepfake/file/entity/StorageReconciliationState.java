@@ -0,0 +1,75 @@
+package com.example.deepfake.file.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 저장소 정합성 검사 진행 위치와 실행 임대(lease)
+// 호출 수 제한으로 중단된 단계/커서를 저장해 재시작이나 다른 인스턴스에서도 이어서 검사
+@Entity
+@Table(name = "storage_reconciliation_state")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorageReconciliationState {
+    
+    // 검사 작업은 하나이므로 단일 행으로 관리
+    public static final Long SINGLETON_ID = 1L;
+    
+    @Id
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Phase phase;
+    
+    // 저장소 목록 조회 커서 (IMAGE/VIDEO 단계, 없으면 처음부터)
+    @Column(name = "storage_cursor", length = 1000)
+    private String storageCursor;
+    
+    // 마지막으로 확인한 files.id (FILES 단계)
+    @Column(name = "file_cursor", nullable = false)
+    private Long fileCursor;
+    
+    // 임대를 가진 인스턴스와 만료 시각 (만료 전에는 다른 인스턴스가 실행하지 않음)
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+    
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // 저장소 -> DB(유형별), DB -> 저장소 순서로 검사하고 마지막 단계가 끝나면 처음으로 돌아감
+    public enum Phase {
+        IMAGE("image"),
+        VIDEO("video"),
+        FILES(null);
+        
+        private final String resourceType;
+        
+        Phase(String resourceType) {
+            this.resourceType = resourceType;
+        }
+        
+        public String getResourceType() {
+            return resourceType;
+        }
+        
+        public Phase next() {
+            Phase[] phases = values();
+            return phases[(ordinal() + 1) % phases.length];
+        }
+    }
+}
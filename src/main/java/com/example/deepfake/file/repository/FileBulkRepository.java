@@ -0,0 +1,91 @@
+package com.example.deepfake.file.repository;
+
+import com.example.deepfake.file.dto.FileBulkUpdateRequest;
+import com.example.deepfake.file.dto.OwnedFileSnapshot;
+import com.example.deepfake.file.entity.File;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// 일괄 삭제/수정용 JDBC (엔티티를 읽지 않고 문장 하나로 여러 행을 처리)
+// 호출하는 서비스의 JPA 트랜잭션과 같은 커넥션을 사용
+// Hibernate를 거치지 않으므로 변경한 파일은 2차 캐시에서 직접 제거
+@Repository
+@RequiredArgsConstructor
+public class FileBulkRepository {
+    
+    private static final String DELETE_RETURNING = "RETURNING id, name, type, size";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    
+    // 소유자 조건을 함께 걸고 실제로 삭제된 행만 돌려줌
+    // 동시에 들어온 일괄/단건 삭제와 겹쳐도 각 행은 한 요청에서만 반환되므로 통계가 두 번 반영되지 않음
+    public List<OwnedFileSnapshot> deleteOwned(Collection<Long> fileIds, Long userId) {
+        return delete("DELETE FROM files WHERE id = ANY(?) AND user_id = ? " + DELETE_RETURNING, fileIds, userId);
+    }
+    
+    // 소유자와 무관한 정리 작업(저장소 정합성 검사)용
+    public List<OwnedFileSnapshot> deleteByIds(Collection<Long> fileIds) {
+        return delete("DELETE FROM files WHERE id = ANY(?) " + DELETE_RETURNING, fileIds, null);
+    }
+    
+    private List<OwnedFileSnapshot> delete(String sql, Collection<Long> fileIds, Long userId) {
+        if (fileIds.isEmpty()) {
+            return List.of();
+        }
+        List<OwnedFileSnapshot> deleted = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setArray(1, connection.createArrayOf("bigint", fileIds.toArray()));
+            if (userId != null) {
+                ps.setLong(2, userId);
+            }
+            return ps;
+        }, (rs, rowNum) -> new OwnedFileSnapshot(
+                rs.getLong("id"),
+                rs.getString("name"),
+                File.FileType.valueOf(rs.getString("type")),
+                rs.getLong("size")));
+        evict(deleted.stream().map(OwnedFileSnapshot::getId).toList());
+        return deleted;
+    }
+    
+    // 소유자 조건을 다시 걸어 검사 이후 소유자가 바뀌는 경우에도 다른 사용자의 파일은 수정되지 않음
+    public int[] updateTitles(List<FileBulkUpdateRequest.Item> items, Long userId, LocalDateTime updatedAt) {
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        int[] updated = jdbcTemplate.batchUpdate("UPDATE files SET title = ?, updated_at = ? WHERE id = ? AND user_id = ?",
+                items, items.size(), (ps, item) -> {
+                    ps.setString(1, item.getTitle());
+                    ps.setTimestamp(2, timestamp);
+                    ps.setLong(3, item.getId());
+                    ps.setLong(4, userId);
+                });
+        evict(items.stream().map(FileBulkUpdateRequest.Item::getId).toList());
+        return updated;
+    }
+    
+    private void evict(List<Long> fileIds) {
+        Cache cache = entityManagerFactory.getCache();
+        fileIds.forEach(fileId -> cache.evict(File.class, fileId));
+        
+        // 커밋 전에 다른 요청이 이전 값을 다시 적재할 수 있으므로 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fileIds.forEach(fileId -> cache.evict(File.class, fileId));
+                }
+            });
+        }
+    }
+}
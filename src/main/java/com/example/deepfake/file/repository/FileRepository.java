@@ -1,14 +1,24 @@
 package com.example.deepfake.file.repository;
 
+import com.example.deepfake.file.dto.OwnedFileSnapshot;
 import com.example.deepfake.file.entity.File;
+import com.example.deepfake.gallery.dto.GalleryStatsSnapshot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface FileRepository extends JpaRepository<File, Long> {
@@ -48,22 +58,41 @@ public interface FileRepository extends JpaRepository<File, Long> {
     
     Page<File> findByType(com.example.deepfake.file.entity.File.FileType type, Pageable pageable);
     
-    @Query("SELECT COUNT(f) FROM File f")
-    Long countTotalFiles();
+    // 갤러리 통계 재집계 (단일 쿼리)
+    @Query("SELECT new com.example.deepfake.gallery.dto.GalleryStatsSnapshot(" +
+           "COUNT(f), " +
+           "COALESCE(SUM(CASE WHEN f.type = 'IMAGE' THEN 1L ELSE 0L END), 0L), " +
+           "COALESCE(SUM(CASE WHEN f.type = 'VIDEO' THEN 1L ELSE 0L END), 0L), " +
+           "COUNT(DISTINCT f.user.id), " +
+           "COALESCE(SUM(f.size), 0L)) " +
+           "FROM File f")
+    GalleryStatsSnapshot aggregateGalleryStats();
     
-    @Query("SELECT COUNT(f) FROM File f WHERE f.type = 'IMAGE'")
-    Long countImages();
+    Optional<File> findByIdAndUserId(Long id, Long userId);
     
-    @Query("SELECT COUNT(f) FROM File f WHERE f.type = 'VIDEO'")
-    Long countVideos();
+    // 상세 조회용 (업로더 이름이 필요하므로 사용자 함께 조회)
+    @EntityGraph(attributePaths = "user")
+    Optional<File> findWithUserById(Long id);
     
-    @Query("SELECT COUNT(DISTINCT f.user) FROM File f")
-    Long countUsers();
+    // 일괄 삭제/수정용 소유권 확인: 요청 ID 중 본인 소유인 파일만 반환 (단일 쿼리)
+    @Query("SELECT new com.example.deepfake.file.dto.OwnedFileSnapshot(f.id, f.name, f.type, f.size) " +
+           "FROM File f WHERE f.id IN :ids AND f.user.id = :userId")
+    List<OwnedFileSnapshot> findOwnedByIdIn(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
     
-    @Query("SELECT COALESCE(SUM(f.size), 0) FROM File f")
-    Long sumTotalSize();
+    // 저장소 정합성 검사: 주어진 public_id 중 DB에 기록된 것
+    @Query("SELECT f.name FROM File f WHERE f.name IN :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
     
-    Optional<File> findByIdAndUserId(Long id, Long userId);
+    // 저장소 정합성 검사: ID 순 키셋 페이지 (uploadedBefore 이후 업로드는 제외)
+    @Query("SELECT new com.example.deepfake.file.dto.OwnedFileSnapshot(f.id, f.name, f.type, f.size) " +
+           "FROM File f WHERE f.id > :afterId AND f.uploadedAt < :uploadedBefore ORDER BY f.id")
+    List<OwnedFileSnapshot> findSnapshotsAfter(@Param("afterId") Long afterId,
+                                               @Param("uploadedBefore") LocalDateTime uploadedBefore,
+                                               Pageable pageable);
+    
+    // ID 목록으로 파일 일괄 조회 (업로더 정보 함께 조회)
+    @Query("SELECT f FROM File f JOIN FETCH f.user WHERE f.id IN :ids")
+    List<File> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
     
     // 사용자별 파일 조회 (업로드 시간 내림차순)
     Page<File> findByUserIdOrderByUploadedAtDesc(Long userId, Pageable pageable);
@@ -71,16 +100,29 @@ public interface FileRepository extends JpaRepository<File, Long> {
     // 사용자별 타입별 파일 조회 (업로드 시간 내림차순)
     Page<File> findByUserIdAndTypeOrderByUploadedAtDesc(Long userId, com.example.deepfake.file.entity.File.FileType type, Pageable pageable);
     
+    // 사용자별 파일 전체 스트리밍 (내보내기용, 전방 전용 커서)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT f FROM File f WHERE f.user.id = :userId ORDER BY f.uploadedAt DESC, f.id DESC")
+    Stream<File> streamByUserId(@Param("userId") Long userId);
+    
     // 전체 파일 조회 (업로드 시간 내림차순)
+    // 공개 목록/검색 응답에 업로더 이름이 포함되므로 사용자를 함께 조회 (N+1 방지)
+    @EntityGraph(attributePaths = "user")
     Page<File> findAllByOrderByUploadedAtDesc(Pageable pageable);
     
     // 타입별 파일 조회 (업로드 시간 내림차순)
+    @EntityGraph(attributePaths = "user")
     Page<File> findByTypeOrderByUploadedAtDesc(com.example.deepfake.file.entity.File.FileType type, Pageable pageable);
     
     // 제목 또는 원본 파일명으로 검색 (업로드 시간 내림차순)
+    @EntityGraph(attributePaths = "user")
     Page<File> findByTitleContainingOrOriginalNameContainingOrderByUploadedAtDesc(String title, String originalName, Pageable pageable);
     
     // 타입별 제목 또는 원본 파일명으로 검색 (업로드 시간 내림차순)
+    @EntityGraph(attributePaths = "user")
     Page<File> findByTypeAndTitleContainingOrTypeAndOriginalNameContainingOrderByUploadedAtDesc(
         com.example.deepfake.file.entity.File.FileType type1, String title,
         com.example.deepfake.file.entity.File.FileType type2, String originalName,
@@ -0,0 +1,49 @@
+package com.example.deepfake.file.repository;
+
+import com.example.deepfake.file.entity.StorageDeletion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StorageDeletionRepository extends JpaRepository<StorageDeletion, Long>, StorageDeletionRepositoryCustom {
+    
+    // 처리 시각이 된 행을 임대 만료 시각까지 선점 (SKIP LOCKED로 여러 인스턴스가 겹치지 않게 나눠 가짐)
+    // 임대 중 인스턴스가 죽으면 임대가 끝난 뒤 다른 인스턴스가 다시 가져감
+    @Query(value = "UPDATE storage_deletion_outbox SET next_attempt_at = :leaseUntil " +
+            "WHERE id IN (SELECT id FROM storage_deletion_outbox WHERE next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+            "RETURNING *", nativeQuery = true)
+    List<StorageDeletion> claimDue(@Param("now") LocalDateTime now,
+                                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                                   @Param("limit") int limit);
+    
+    // 재시도 간격은 시도 횟수에 따라 지수적으로 증가 (최대 maxDelaySeconds)
+    // LocalDateTime 파라미터는 타입 미지정으로 전달되어 그대로 두면 interval + interval로 해석되므로 명시적으로 변환
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "storage_deletion_outbox"))
+    @Modifying
+    @Query(value = "UPDATE storage_deletion_outbox SET attempts = attempts + 1, last_error = :error, " +
+            "next_attempt_at = CAST(:now AS timestamp) + make_interval(secs => LEAST(:baseDelaySeconds * power(2, attempts), :maxDelaySeconds)) " +
+            "WHERE id IN (:ids)", nativeQuery = true)
+    int markFailed(@Param("ids") Collection<Long> ids,
+                   @Param("error") String error,
+                   @Param("now") LocalDateTime now,
+                   @Param("baseDelaySeconds") long baseDelaySeconds,
+                   @Param("maxDelaySeconds") long maxDelaySeconds);
+    
+    // 요청을 보내지 못한 선점 행을 시도 횟수 증가 없이 다시 대기열로 되돌림
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "storage_deletion_outbox"))
+    @Modifying
+    @Query(value = "UPDATE storage_deletion_outbox SET next_attempt_at = CAST(:nextAttemptAt AS timestamp) " +
+            "WHERE id IN (:ids)", nativeQuery = true)
+    int release(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
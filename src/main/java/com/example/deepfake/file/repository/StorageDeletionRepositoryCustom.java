@@ -0,0 +1,11 @@
+package com.example.deepfake.file.repository;
+
+import com.example.deepfake.file.entity.StorageDeletion;
+
+import java.util.List;
+
+public interface StorageDeletionRepositoryCustom {
+    
+    // IDENTITY 키라 JPA saveAll은 행마다 INSERT를 보내므로 JDBC 배치로 기록
+    void insertAll(List<StorageDeletion> deletions);
+}
@@ -0,0 +1,27 @@
+package com.example.deepfake.file.repository;
+
+import com.example.deepfake.file.entity.StorageDeletion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class StorageDeletionRepositoryCustomImpl implements StorageDeletionRepositoryCustom {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void insertAll(List<StorageDeletion> deletions) {
+        jdbcTemplate.batchUpdate("INSERT INTO storage_deletion_outbox " +
+                        "(public_id, resource_type, attempts, next_attempt_at, created_at) VALUES (?, ?, ?, ?, ?)",
+                deletions, deletions.size(), (ps, deletion) -> {
+                    ps.setString(1, deletion.getPublicId());
+                    ps.setString(2, deletion.getResourceType());
+                    ps.setInt(3, deletion.getAttempts());
+                    ps.setTimestamp(4, Timestamp.valueOf(deletion.getNextAttemptAt()));
+                    ps.setTimestamp(5, Timestamp.valueOf(deletion.getCreatedAt()));
+                });
+    }
+}
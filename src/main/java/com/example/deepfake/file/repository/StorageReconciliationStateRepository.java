@@ -0,0 +1,52 @@
+package com.example.deepfake.file.repository;
+
+import com.example.deepfake.file.entity.StorageReconciliationState;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface StorageReconciliationStateRepository extends JpaRepository<StorageReconciliationState, Long> {
+    
+    // 첫 실행 시 상태 행 생성 (여러 인스턴스가 동시에 시작해도 한 행만 생성)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "storage_reconciliation_state"))
+    @Modifying
+    @Query(value = "INSERT INTO storage_reconciliation_state (id, phase, file_cursor, updated_at) " +
+                   "VALUES (:id, 'IMAGE', 0, :now) ON CONFLICT (id) DO NOTHING",
+           nativeQuery = true)
+    int createIfAbsent(@Param("id") Long id, @Param("now") LocalDateTime now);
+    
+    // 임대가 없거나 만료된 경우에만 획득 (같은 인스턴스의 재획득은 허용)
+    @Modifying
+    @Query("UPDATE StorageReconciliationState s SET s.leaseOwner = :owner, s.leaseExpiresAt = :expiresAt " +
+           "WHERE s.id = :id AND (s.leaseOwner IS NULL OR s.leaseOwner = :owner OR s.leaseExpiresAt < :now)")
+    int tryAcquireLease(@Param("id") Long id,
+                        @Param("owner") String owner,
+                        @Param("now") LocalDateTime now,
+                        @Param("expiresAt") LocalDateTime expiresAt);
+    
+    // 진행 위치 저장과 임대 연장 (임대를 잃었으면 0)
+    @Modifying
+    @Query("UPDATE StorageReconciliationState s SET s.phase = :phase, s.storageCursor = :storageCursor, " +
+           "s.fileCursor = :fileCursor, s.leaseExpiresAt = :expiresAt, s.updatedAt = :now " +
+           "WHERE s.id = :id AND s.leaseOwner = :owner")
+    int saveProgress(@Param("id") Long id,
+                     @Param("owner") String owner,
+                     @Param("phase") StorageReconciliationState.Phase phase,
+                     @Param("storageCursor") String storageCursor,
+                     @Param("fileCursor") long fileCursor,
+                     @Param("now") LocalDateTime now,
+                     @Param("expiresAt") LocalDateTime expiresAt);
+    
+    @Modifying
+    @Query("UPDATE StorageReconciliationState s SET s.leaseOwner = NULL, s.leaseExpiresAt = NULL " +
+           "WHERE s.id = :id AND s.leaseOwner = :owner")
+    int releaseLease(@Param("id") Long id, @Param("owner") String owner);
+}
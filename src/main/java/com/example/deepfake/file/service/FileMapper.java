@@ -0,0 +1,74 @@
+package com.example.deepfake.file.service;
+
+import com.example.deepfake.dto.response.PublicFileItemDto;
+import com.example.deepfake.file.dto.FileItemDto;
+import com.example.deepfake.file.entity.File;
+
+// 파일 엔티티 <-> 응답 DTO 변환과 업로드 시 파생 값 계산 (상태 없음, 벤치마크에서도 직접 호출)
+public final class FileMapper {
+    
+    private static final String THUMBNAIL_TRANSFORMATION = "c_fill,w_300,h_200,q_auto/";
+    
+    private FileMapper() {
+    }
+    
+    public static File.FileType determineFileType(String mimeType) {
+        if (mimeType == null) {
+            return File.FileType.IMAGE; // 기본값
+        }
+        
+        if (mimeType.startsWith("image/")) {
+            return File.FileType.IMAGE;
+        } else if (mimeType.startsWith("video/")) {
+            return File.FileType.VIDEO;
+        } else {
+            return File.FileType.IMAGE; // 기본값
+        }
+    }
+    
+    // Cloudinary resource_type (동영상 외에는 모두 image로 업로드)
+    public static String resourceType(File.FileType fileType) {
+        return fileType == File.FileType.VIDEO ? "video" : "image";
+    }
+    
+    // Cloudinary 원본 URL의 마지막 경로 앞에 변환 옵션을 넣어 썸네일 URL 생성
+    public static String thumbnailUrl(String cloudinaryUrl, String publicId) {
+        String baseUrl = cloudinaryUrl.substring(0, cloudinaryUrl.lastIndexOf('/') + 1);
+        return baseUrl + THUMBNAIL_TRANSFORMATION + publicId;
+    }
+    
+    public static FileItemDto toFileItemDto(File file) {
+        // Cloudinary URL 직접 사용
+        return FileItemDto.builder()
+            .id(file.getId())
+            .name(file.getName())
+            .title(file.getTitle())
+            .originalName(file.getOriginalName())
+            .url(file.getUrl()) // Cloudinary URL 직접 사용
+            .thumbnailUrl(file.getThumbnailUrl())
+            .size(file.getSize())
+            .type(file.getType())
+            .mimeType(file.getMimeType())
+            .userId(file.getUser().getId())
+            .uploadedAt(file.getUploadedAt())
+            .build();
+    }
+    
+    public static PublicFileItemDto toPublicFileItemDto(File file) {
+        // Cloudinary URL 직접 사용
+        return PublicFileItemDto.publicBuilder()
+            .id(file.getId())
+            .name(file.getName())
+            .title(file.getTitle())
+            .originalName(file.getOriginalName())
+            .url(file.getUrl()) // Cloudinary URL 직접 사용
+            .thumbnailUrl(file.getThumbnailUrl())
+            .size(file.getSize())
+            .type(file.getType())
+            .mimeType(file.getMimeType())
+            .userId(file.getUser().getId())
+            .uploadedAt(file.getUploadedAt())
+            .userName(file.getUser().getName())
+            .build();
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.deepfake.file.service;
 
+import com.example.deepfake.file.dto.FileBatchResponse;
+import com.example.deepfake.file.dto.FileBulkResponse;
+import com.example.deepfake.file.dto.FileBulkUpdateRequest;
 import com.example.deepfake.file.dto.FileUpdateRequest;
 import com.example.deepfake.file.dto.FileDetailResponse;
 import com.example.deepfake.file.dto.FileItemDto;
@@ -8,6 +11,8 @@ import com.example.deepfake.file.dto.PublicFileListResponse;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface FileService {
@@ -16,16 +21,26 @@ public interface FileService {
     
     FileListResponse getMyFiles(Long userId, String type, Pageable pageable);
     
+    void exportMyFiles(Long userId, OutputStream outputStream) throws IOException;
+    
     PublicFileListResponse getPublicFiles(String type, Pageable pageable);
     
     PublicFileListResponse searchFiles(String keyword, String type, Pageable pageable);
     
     FileDetailResponse getFileDetail(Long fileId);
     
+    FileDetailResponse getFileDetail(Long fileId, Long viewerId);
+    
+    FileBatchResponse getFilesByIds(List<Long> fileIds);
+    
     void deleteFile(Long fileId, Long userId);
     
+    FileBulkResponse deleteFiles(List<Long> fileIds, Long userId);
+    
     FileItemDto updateFile(Long fileId, FileUpdateRequest request, Long userId);
     
+    FileBulkResponse updateFiles(List<FileBulkUpdateRequest.Item> items, Long userId);
+    
     byte[] downloadFile(Long fileId);
     
     byte[] streamFile(Long fileId, String range);
@@ -1,208 +1,300 @@
 package com.example.deepfake.file.service;
 
-import com.cloudinary.Cloudinary;
-import java.util.HashMap;
+import com.example.deepfake.common.exception.InvalidRequestException;
+import com.example.deepfake.common.exception.StorageException;
+import com.example.deepfake.common.tracing.PhaseTracer;
+import com.example.deepfake.file.dto.FileBatchResponse;
+import com.example.deepfake.file.dto.FileBulkResponse;
+import com.example.deepfake.file.dto.FileBulkUpdateRequest;
 import com.example.deepfake.file.dto.FileUpdateRequest;
 import com.example.deepfake.file.dto.FileDetailResponse;
 import com.example.deepfake.file.dto.FileItemDto;
 import com.example.deepfake.file.dto.FileListResponse;
+import com.example.deepfake.file.dto.OwnedFileSnapshot;
 import com.example.deepfake.file.dto.PublicFileListResponse;
 import com.example.deepfake.dto.response.PublicFileItemDto;
 import com.example.deepfake.file.entity.File;
+import com.example.deepfake.file.repository.FileBulkRepository;
 import com.example.deepfake.file.repository.FileRepository;
+import com.example.deepfake.file.storage.StorageClient;
+import com.example.deepfake.file.storage.StorageUploadRequest;
+import com.example.deepfake.file.storage.StoredObject;
+import com.example.deepfake.gallery.service.DistinctCounterService;
+import com.example.deepfake.gallery.service.GalleryService;
+import com.example.deepfake.gallery.service.UploadAnalyticsService;
 import com.example.deepfake.user.entity.User;
 import com.example.deepfake.user.repository.UserRepository;
+import com.example.deepfake.user.service.UserStorageService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
+@Timed(value = "file.service", histogram = true)
 public class FileServiceImpl implements FileService {
     
+    // 내보내기 시 flush 및 영속성 컨텍스트 정리 단위 (fetch size와 동일)
+    private static final int EXPORT_BATCH_SIZE = 500;
+    
     private final FileRepository fileRepository;
+    private final FileBulkRepository fileBulkRepository;
     private final UserRepository userRepository;
-    private final Cloudinary cloudinary;
+    private final GalleryService galleryService;
+    private final UserStorageService userStorageService;
+    private final UploadAnalyticsService uploadAnalyticsService;
+    private final DistinctCounterService distinctCounterService;
+    private final StorageClient storageClient;
+    private final StorageDeletionService storageDeletionService;
+    private final StorageMetrics storageMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
     
     @Value("${cloudinary.folder:deepfake}")
     private String cloudinaryFolder;
     
+    @Value("${file.batch.max-ids:200}")
+    private int maxBatchIds;
+    
+    // 업로드는 단계별로 분리해 원격 전송 동안 DB 커넥션을 잡지 않음
+    // 1) 사전 검사(각각 짧은 조회) 2) 스토리지 전송(커넥션 없음) 3) 메타데이터 저장(짧은 트랜잭션)
+    // 저장에 실패하면 이미 올라간 리소스는 삭제 대기열로 보상
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<FileItemDto> uploadFiles(List<MultipartFile> files, List<String> titles, Long userId) {
-        log.info("파일 업로드 시작 (Cloudinary): 사용자 {}, 파일 개수 {}", userId, files.size());
+        log.debug("파일 업로드 시작 (Cloudinary): 사용자 {}, 파일 개수 {}", userId, files.size());
         
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+        // 사용자 확인
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다: " + userId);
+        }
         
-        List<FileItemDto> uploadedFiles = new ArrayList<>();
+        // 전송 전에 저장 용량 한도 검사
+        long requestedSize = files.stream().mapToLong(MultipartFile::getSize).sum();
+        userStorageService.checkQuota(userId, requestedSize, files.size());
+        
+        // 모든 파일 전송을 먼저 동시에 시작해 스토리지 왕복 시간이 파일 수만큼 누적되지 않도록 함
+        List<CompletableFuture<StoredObject>> pendingUploads = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            pendingUploads.add(startUpload(file));
+        }
         
+        // 완료 순서와 관계없이 요청 순서대로 결과 수집 (하나라도 실패하면 나머지를 정리하고 실패 처리)
+        List<StoredObject> storedObjects = new ArrayList<>(files.size());
         for (int i = 0; i < files.size(); i++) {
             MultipartFile file = files.get(i);
-            String title = (titles != null && i < titles.size()) ? titles.get(i) : file.getOriginalFilename();
-            
             try {
-                FileItemDto uploadedFile = uploadSingleFileToCloudinary(file, title, user);
-                uploadedFiles.add(uploadedFile);
-                log.info("Cloudinary 업로드 성공: {}", uploadedFile.getName());
+                storedObjects.add(awaitStorage(pendingUploads.get(i)));
             } catch (Exception e) {
                 log.error("Cloudinary 업로드 실패: {}", file.getOriginalFilename(), e);
+                compensateUploads(pendingUploads);
                 throw new RuntimeException("파일 업로드 중 오류가 발생했습니다: " + file.getOriginalFilename(), e);
             }
         }
         
+        List<FileItemDto> uploadedFiles;
+        try {
+            uploadedFiles = transactionTemplate.execute(status -> saveUploadedFiles(files, titles, userId, storedObjects));
+        } catch (RuntimeException e) {
+            log.error("업로드 메타데이터 저장 실패, 업로드된 {} 개 리소스 정리 예정: 사용자 {}", storedObjects.size(), userId, e);
+            compensateUploads(pendingUploads);
+            throw e;
+        }
+        
         log.info("Cloudinary 파일 업로드 완료: {} 개 파일", uploadedFiles.size());
         return uploadedFiles;
     }
     
-    private FileItemDto uploadSingleFileToCloudinary(MultipartFile file, String title, User user) throws IOException {
+    private List<FileItemDto> saveUploadedFiles(List<MultipartFile> files, List<String> titles, Long userId,
+                                                List<StoredObject> storedObjects) {
+        User user = userRepository.getReferenceById(userId);
+        
+        List<FileItemDto> uploadedFiles = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            String title = (titles != null && i < titles.size()) ? titles.get(i) : file.getOriginalFilename();
+            uploadedFiles.add(saveUploadedFile(file, title, user, storedObjects.get(i)));
+        }
+        
+        // 갤러리 통계 카운터는 트랜잭션 마지막에 한 번만 갱신해 카운터 행 잠금 시간을 최소화
+        long imageCount = uploadedFiles.stream()
+            .filter(uploadedFile -> uploadedFile.getType() == File.FileType.IMAGE)
+            .count();
+        long totalSize = uploadedFiles.stream()
+            .mapToLong(FileItemDto::getSize)
+            .sum();
+        galleryService.recordUploads(imageCount, uploadedFiles.size() - imageCount, totalSize);
+        userStorageService.recordUploads(userId, totalSize, imageCount, uploadedFiles.size() - imageCount);
+        recordUploadAnalytics(uploadedFiles);
+        if (!uploadedFiles.isEmpty()) {
+            distinctCounterService.offer(DistinctCounterService.dailyUploadersKey(LocalDate.now()), userId);
+        }
+        return uploadedFiles;
+    }
+    
+    // 전송에 성공한 리소스를 삭제 대기열에 기록 (진행 중인 전송은 완료된 뒤 기록)
+    // 대기열 기록마저 실패하면 직접 삭제를 시도하고, 그래도 남은 리소스는 고아 정리 작업 대상
+    private void compensateUploads(List<CompletableFuture<StoredObject>> pendingUploads) {
+        for (CompletableFuture<StoredObject> pendingUpload : pendingUploads) {
+            pendingUpload.thenAccept(stored -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                        storageDeletionService.enqueue(stored.getPublicId(), stored.getResourceType()));
+                } catch (RuntimeException e) {
+                    log.error("업로드 보상 대기열 기록 실패, 직접 삭제 시도: {}", stored.getPublicId(), e);
+                    storageClient.delete(stored.getPublicId(), stored.getResourceType())
+                        .exceptionally(error -> {
+                            log.error("업로드 보상 삭제 실패: {} ({})", stored.getPublicId(), error.getMessage());
+                            return false;
+                        });
+                }
+            });
+        }
+    }
+    
+    private void recordUploadAnalytics(List<FileItemDto> uploadedFiles) {
+        // 타입별로 묶어 시간 단위 업로드 통계에 반영
+        Map<File.FileType, List<FileItemDto>> filesByType = uploadedFiles.stream()
+            .collect(Collectors.groupingBy(FileItemDto::getType));
+        LocalDateTime now = LocalDateTime.now();
+        filesByType.forEach((type, typedFiles) -> uploadAnalyticsService.recordUploads(
+            now, type, typedFiles.size(), typedFiles.stream().mapToLong(FileItemDto::getSize).sum()));
+    }
+    
+    private CompletableFuture<StoredObject> startUpload(MultipartFile file) {
         // 파일 검증
         if (file.isEmpty()) {
-            throw new RuntimeException("빈 파일입니다");
+            return CompletableFuture.failedFuture(new RuntimeException("빈 파일입니다"));
         }
         
-        // 고유한 파일명 생성
-        String originalFilename = file.getOriginalFilename();
-        String uniqueFileName = UUID.randomUUID().toString();
-        
         // 파일 타입 결정
-        File.FileType fileType = determineFileType(file.getContentType());
+        File.FileType fileType = FileMapper.determineFileType(file.getContentType());
+        String resourceType = FileMapper.resourceType(fileType);
         
-        try {
-            // Cloudinary 업로드 옵션 설정
-            Map<String, Object> uploadParams = new HashMap<>();
-            uploadParams.put("folder", cloudinaryFolder);
-            uploadParams.put("public_id", uniqueFileName);
-            uploadParams.put("resource_type", fileType == File.FileType.VIDEO ? "video" : "image");
-            
-            // 이미지인 경우 최적화 옵션 추가
-            if (fileType == File.FileType.IMAGE) {
-                // 원본 크기 그대로 업로드 (품질만 최적화)
-                uploadParams.put("quality", "auto");
-                
-                // 리사이즈하려면 아래 줄의 주석을 해제:
-                // uploadParams.put("transformation", "c_limit,w_1920,h_1080,q_auto");
-            }
-            
-            // Cloudinary에 업로드
-            Map uploadResult = cloudinary.uploader().upload(file.getBytes(), uploadParams);
-            
-            String cloudinaryUrl = (String) uploadResult.get("secure_url");
-            String publicId = (String) uploadResult.get("public_id");
-            
-            log.info("Cloudinary 업로드 완료: {} -> {}", originalFilename, cloudinaryUrl);
-            
-            // 썸네일 URL 생성 (이미지만)
-            String thumbnailUrl = null;
-            if (fileType == File.FileType.IMAGE) {
-                String baseUrl = cloudinaryUrl.substring(0, cloudinaryUrl.lastIndexOf('/') + 1);
-                thumbnailUrl = baseUrl + "c_fill,w_300,h_200,q_auto/" + publicId;
-            }
-            
-            // 파일 엔티티 생성 및 저장
-            File fileEntity = File.builder()
-                .name(publicId)
-                .title(title)
-                .originalName(originalFilename)
-                .url(cloudinaryUrl)
-                .thumbnailUrl(thumbnailUrl)
-                .size(file.getSize())
-                .type(fileType)
-                .mimeType(file.getContentType())
-                .user(user)
-                .build();
-            
-            File savedFile = fileRepository.save(fileEntity);
-            
-            log.info("파일 엔티티 저장 완료: ID {}", savedFile.getId());
+        // Cloudinary 업로드 옵션 설정 (고유한 public_id 생성)
+        StorageUploadRequest.StorageUploadRequestBuilder request = StorageUploadRequest.builder()
+            .content(file)
+            .size(file.getSize())
+            .filename(file.getOriginalFilename())
+            .contentType(file.getContentType())
+            .folder(cloudinaryFolder)
+            .publicId(UUID.randomUUID().toString())
+            .resourceType(resourceType);
+        
+        // 이미지인 경우 최적화 옵션 추가
+        if (fileType == File.FileType.IMAGE) {
+            // 원본 크기 그대로 업로드 (품질만 최적화)
+            request.option("quality", "auto");
             
-            // DTO 변환
-            return FileItemDto.builder()
-                .id(savedFile.getId())
-                .name(savedFile.getName())
-                .title(savedFile.getTitle())
-                .originalName(savedFile.getOriginalName())
-                .url(savedFile.getUrl())
-                .thumbnailUrl(savedFile.getThumbnailUrl())
-                .size(savedFile.getSize())
-                .type(savedFile.getType())
-                .mimeType(savedFile.getMimeType())
-                .userId(savedFile.getUser().getId())
-                .uploadedAt(savedFile.getUploadedAt())
-                .build();
-                
-        } catch (Exception e) {
-            log.error("Cloudinary 업로드 중 오류 발생: {}", originalFilename, e);
-            throw new RuntimeException("Cloudinary 업로드 실패: " + e.getMessage(), e);
+            // 리사이즈하려면 아래 줄의 주석을 해제:
+            // request.option("transformation", "c_limit,w_1920,h_1080,q_auto");
         }
+        
+        // Cloudinary에 업로드
+        return storageMetrics.record("upload", resourceType, () -> storageClient.upload(request.build()))
+            .thenApply(stored -> {
+                storageMetrics.recordBytesUploaded(resourceType, file.getSize());
+                return stored;
+            });
     }
     
-    
-    private File.FileType determineFileType(String mimeType) {
-        if (mimeType == null) {
-            return File.FileType.IMAGE; // 기본값
-        }
-        
-        if (mimeType.startsWith("image/")) {
-            return File.FileType.IMAGE;
-        } else if (mimeType.startsWith("video/")) {
-            return File.FileType.VIDEO;
-        } else {
-            return File.FileType.IMAGE; // 기본값
+    // 요청 스레드가 스토리지 응답을 기다린 시간은 storage 단계로 기록
+    private <T> T awaitStorage(CompletableFuture<T> future) {
+        try (PhaseTracer.Scope ignored = PhaseTracer.start("storage")) {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new StorageException("스토리지 요청 실패: " + e.getMessage(), e.getCause());
         }
     }
     
-    private FileItemDto convertToFileItemDto(File file) {
-        // Cloudinary URL 직접 사용
-        return FileItemDto.builder()
-            .id(file.getId())
-            .name(file.getName())
-            .title(file.getTitle())
-            .originalName(file.getOriginalName())
-            .url(file.getUrl()) // Cloudinary URL 직접 사용
-            .thumbnailUrl(file.getThumbnailUrl())
+    private FileItemDto saveUploadedFile(MultipartFile file, String title, User user, StoredObject stored) {
+        String originalFilename = file.getOriginalFilename();
+        File.FileType fileType = FileMapper.determineFileType(file.getContentType());
+        
+        String cloudinaryUrl = stored.getSecureUrl();
+        String publicId = stored.getPublicId();
+        
+        log.debug("Cloudinary 업로드 완료: {} -> {}", originalFilename, cloudinaryUrl);
+        
+        // 썸네일 URL 생성 (이미지만)
+        String thumbnailUrl = fileType == File.FileType.IMAGE
+            ? FileMapper.thumbnailUrl(cloudinaryUrl, publicId)
+            : null;
+        
+        // 파일 엔티티 생성 및 저장
+        File fileEntity = File.builder()
+            .name(publicId)
+            .title(title)
+            .originalName(originalFilename)
+            .url(cloudinaryUrl)
+            .thumbnailUrl(thumbnailUrl)
             .size(file.getSize())
-            .type(file.getType())
-            .mimeType(file.getMimeType())
-            .userId(file.getUser().getId())
-            .uploadedAt(file.getUploadedAt())
+            .type(fileType)
+            .mimeType(file.getContentType())
+            .user(user)
             .build();
-    }
-    
-    private PublicFileItemDto convertToPublicFileItemDto(File file) {
-        // Cloudinary URL 직접 사용
-        return PublicFileItemDto.publicBuilder()
-            .id(file.getId())
-            .name(file.getName())
-            .title(file.getTitle())
-            .originalName(file.getOriginalName())
-            .url(file.getUrl()) // Cloudinary URL 직접 사용
-            .thumbnailUrl(file.getThumbnailUrl())
-            .size(file.getSize())
-            .type(file.getType())
-            .mimeType(file.getMimeType())
-            .userId(file.getUser().getId())
-            .uploadedAt(file.getUploadedAt())
-            .userName(file.getUser().getName())
+        
+        File savedFile = fileRepository.save(fileEntity);
+        
+        log.debug("파일 엔티티 저장 완료: ID {}", savedFile.getId());
+        
+        // DTO 변환
+        return FileItemDto.builder()
+            .id(savedFile.getId())
+            .name(savedFile.getName())
+            .title(savedFile.getTitle())
+            .originalName(savedFile.getOriginalName())
+            .url(savedFile.getUrl())
+            .thumbnailUrl(savedFile.getThumbnailUrl())
+            .size(savedFile.getSize())
+            .type(savedFile.getType())
+            .mimeType(savedFile.getMimeType())
+            .userId(savedFile.getUser().getId())
+            .uploadedAt(savedFile.getUploadedAt())
             .build();
     }
     
+    
     @Override
     @Transactional(readOnly = true)
     public FileListResponse getMyFiles(Long userId, String type, Pageable pageable) {
-        log.info("사용자 파일 목록 조회: 사용자 {}, 타입 {}", userId, type);
+        log.debug("사용자 파일 목록 조회: 사용자 {}, 타입 {}", userId, type);
         
         // 파일 타입에 따른 조회
         org.springframework.data.domain.Page<File> filePage;
@@ -215,7 +307,7 @@ public class FileServiceImpl implements FileService {
         
         // DTO 변환
         List<FileItemDto> files = filePage.getContent().stream()
-            .map(this::convertToFileItemDto)
+            .map(FileMapper::toFileItemDto)
             .toList();
         
         // 페이징 정보 생성
@@ -240,10 +332,40 @@ public class FileServiceImpl implements FileService {
             .build();
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public void exportMyFiles(Long userId, OutputStream outputStream) throws IOException {
+        log.debug("파일 목록 내보내기 시작: 사용자 {}", userId);
+        
+        long exportedCount = 0;
+        try (Stream<File> fileStream = fileRepository.streamByUserId(userId);
+             JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            // NDJSON: 루트 값 사이 기본 구분자(공백) 대신 줄바꿈만 사용
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            
+            Iterator<File> iterator = fileStream.iterator();
+            while (iterator.hasNext()) {
+                File file = iterator.next();
+                generator.writeObject(FileMapper.toFileItemDto(file));
+                generator.writeRaw('\n');
+                
+                // 일정 단위마다 응답을 내보내고 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지
+                if (++exportedCount % EXPORT_BATCH_SIZE == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+            generator.flush();
+        }
+        
+        log.info("파일 목록 내보내기 완료: 사용자 {}, {} 건", userId, exportedCount);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public PublicFileListResponse getPublicFiles(String type, Pageable pageable) {
-        log.info("공개 파일 목록 조회: 타입 {}", type);
+        log.debug("공개 파일 목록 조회: 타입 {}", type);
         
         // 파일 타입에 따른 조회
         org.springframework.data.domain.Page<File> filePage;
@@ -256,7 +378,7 @@ public class FileServiceImpl implements FileService {
         
         // DTO 변환 (사용자 이름 포함)
         List<PublicFileItemDto> files = filePage.getContent().stream()
-            .map(this::convertToPublicFileItemDto)
+            .map(FileMapper::toPublicFileItemDto)
             .toList();
         
         // 페이징 정보 생성
@@ -284,7 +406,7 @@ public class FileServiceImpl implements FileService {
     @Override
     @Transactional(readOnly = true)
     public PublicFileListResponse searchFiles(String keyword, String type, Pageable pageable) {
-        log.info("파일 검색: 키워드 {}, 타입 {}", keyword, type);
+        log.debug("파일 검색: 키워드 {}, 타입 {}", keyword, type);
         
         // 파일 타입에 따른 검색
         org.springframework.data.domain.Page<File> filePage;
@@ -298,7 +420,7 @@ public class FileServiceImpl implements FileService {
         
         // DTO 변환 (사용자 이름 포함)
         List<PublicFileItemDto> files = filePage.getContent().stream()
-            .map(this::convertToPublicFileItemDto)
+            .map(FileMapper::toPublicFileItemDto)
             .toList();
         
         // 페이징 정보 생성
@@ -326,9 +448,9 @@ public class FileServiceImpl implements FileService {
     @Override
     @Transactional(readOnly = true)
     public FileDetailResponse getFileDetail(Long fileId) {
-        log.info("파일 상세 정보 조회: {}", fileId);
+        log.debug("파일 상세 정보 조회: {}", fileId);
         
-        File file = fileRepository.findById(fileId)
+        File file = fileRepository.findWithUserById(fileId)
             .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + fileId));
         
         // PublicFileItemDto 생성 (Cloudinary URL 직접 사용)
@@ -353,9 +475,54 @@ public class FileServiceImpl implements FileService {
             .build();
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public FileDetailResponse getFileDetail(Long fileId, Long viewerId) {
+        FileDetailResponse response = getFileDetail(fileId);
+        
+        // 고유 조회자 수는 HyperLogLog 스케치로 근사 집계 (offer는 메모리에만 기록하고 저장은 백그라운드에서 수행)
+        String viewersKey = DistinctCounterService.fileViewersKey(fileId);
+        distinctCounterService.offer(viewersKey, viewerId);
+        response.setUniqueViewers(distinctCounterService.estimate(viewersKey));
+        return response;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public FileBatchResponse getFilesByIds(List<Long> fileIds) {
+        List<Long> requestedIds = normalizeBatchIds(fileIds, "조회");
+        
+        log.debug("파일 일괄 조회: {} 개", requestedIds.size());
+        
+        // 단일 IN 쿼리로 파일과 업로더를 함께 조회
+        Map<Long, File> filesById = fileRepository.findAllWithUserByIdIn(requestedIds).stream()
+            .collect(Collectors.toMap(File::getId, Function.identity()));
+        
+        List<PublicFileItemDto> files = new ArrayList<>(filesById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long fileId : requestedIds) {
+            File file = filesById.get(fileId);
+            if (file == null) {
+                missingIds.add(fileId);
+            } else {
+                files.add(FileMapper.toPublicFileItemDto(file));
+            }
+        }
+        
+        FileBatchResponse.FileBatchData data = FileBatchResponse.FileBatchData.builder()
+            .files(files)
+            .missingIds(missingIds)
+            .build();
+        
+        return FileBatchResponse.builder()
+            .success(true)
+            .data(data)
+            .build();
+    }
+    
     @Override
     public void deleteFile(Long fileId, Long userId) {
-        log.info("파일 삭제: 파일 {}, 사용자 {}", fileId, userId);
+        log.debug("파일 삭제: 파일 {}, 사용자 {}", fileId, userId);
         
         File file = fileRepository.findById(fileId)
             .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + fileId));
@@ -365,26 +532,69 @@ public class FileServiceImpl implements FileService {
             throw new RuntimeException("파일 삭제 권한이 없습니다");
         }
         
-        // Cloudinary에서 파일 삭제
-        try {
-            String publicId = file.getName(); // public_id로 저장되어 있음
-            String resourceType = file.getType() == File.FileType.VIDEO ? "video" : "image";
-            
-            Map deleteResult = cloudinary.uploader().destroy(publicId, Map.of("resource_type", resourceType));
-            log.info("Cloudinary에서 파일 삭제 완료: {}, 결과: {}", publicId, deleteResult.get("result"));
-        } catch (Exception e) {
-            log.error("Cloudinary에서 파일 삭제 실패: {}", file.getName(), e);
-            // 파일 삭제 실패해도 DB에서는 제거
-        }
+        // 스토리지 삭제는 같은 트랜잭션에서 대기열에 기록하고 StorageDeletionService가 일괄 처리
+        // (원격 호출 동안 DB 커넥션을 잡지 않고, 실패해도 재시도됨)
+        storageDeletionService.enqueue(file.getName(), FileMapper.resourceType(file.getType()));
         
         // DB에서 삭제
         fileRepository.delete(file);
         log.info("파일 메타데이터 삭제 완료: {}", fileId);
+        
+        // 갤러리 통계 카운터 반영
+        galleryService.recordDeletions(
+            file.getType() == File.FileType.IMAGE ? 1 : 0,
+            file.getType() == File.FileType.VIDEO ? 1 : 0,
+            file.getSize());
+        userStorageService.recordDeletions(userId, file.getSize(),
+            file.getType() == File.FileType.IMAGE ? 1 : 0,
+            file.getType() == File.FileType.VIDEO ? 1 : 0);
+        uploadAnalyticsService.recordDeletions(LocalDateTime.now(), file.getType(), 1, file.getSize());
+        // 삭제된 파일의 조회자 스케치도 같은 트랜잭션에서 정리
+        distinctCounterService.discard(List.of(DistinctCounterService.fileViewersKey(fileId)));
+    }
+    
+    // 소유권 확인과 삭제를 DELETE ... RETURNING 한 문장으로 처리하고, 실제로 삭제된 행으로만
+    // 대기열 기록/통계 카운터를 갱신 (동시 삭제와 겹친 행은 다른 요청에서 반영됨)
+    @Override
+    public FileBulkResponse deleteFiles(List<Long> fileIds, Long userId) {
+        List<Long> requestedIds = normalizeBatchIds(fileIds, "삭제");
+        
+        log.debug("파일 일괄 삭제: 사용자 {}, {} 개", userId, requestedIds.size());
+        
+        List<OwnedFileSnapshot> deletedFiles = fileBulkRepository.deleteOwned(requestedIds, userId);
+        Set<Long> deletedIds = deletedFiles.stream()
+            .map(OwnedFileSnapshot::getId)
+            .collect(Collectors.toSet());
+        
+        if (!deletedFiles.isEmpty()) {
+            // 스토리지 정리는 삭제 대기열로 넘겨 일괄 삭제 API로 처리
+            deletedFiles.stream()
+                .collect(Collectors.groupingBy(deletedFile -> FileMapper.resourceType(deletedFile.getType()),
+                    Collectors.mapping(OwnedFileSnapshot::getName, Collectors.toList())))
+                .forEach(storageDeletionService::enqueueAll);
+            
+            long imageCount = deletedFiles.stream()
+                .filter(deletedFile -> deletedFile.getType() == File.FileType.IMAGE)
+                .count();
+            long videoCount = deletedFiles.size() - imageCount;
+            long totalSize = deletedFiles.stream()
+                .mapToLong(OwnedFileSnapshot::getSize)
+                .sum();
+            galleryService.recordDeletions(imageCount, videoCount, totalSize);
+            userStorageService.recordDeletions(userId, totalSize, imageCount, videoCount);
+            uploadAnalyticsService.recordDeletions(LocalDateTime.now(), deletedFiles);
+            distinctCounterService.discard(deletedIds.stream()
+                .map(DistinctCounterService::fileViewersKey)
+                .toList());
+        }
+        
+        log.info("파일 일괄 삭제 완료: 사용자 {}, {} / {} 개", userId, deletedIds.size(), requestedIds.size());
+        return bulkResponse(requestedIds, deletedIds, FileBulkResponse.Outcome.DELETED);
     }
     
     @Override
     public FileItemDto updateFile(Long fileId, FileUpdateRequest request, Long userId) {
-        log.info("파일 정보 수정: 파일 {}, 사용자 {}", fileId, userId);
+        log.debug("파일 정보 수정: 파일 {}, 사용자 {}", fileId, userId);
         
         File file = fileRepository.findById(fileId)
             .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + fileId));
@@ -402,7 +612,75 @@ public class FileServiceImpl implements FileService {
         File updatedFile = fileRepository.save(file);
         log.info("파일 정보 수정 완료: {}", fileId);
         
-        return convertToFileItemDto(updatedFile);
+        return FileMapper.toFileItemDto(updatedFile);
+    }
+    
+    @Override
+    public FileBulkResponse updateFiles(List<FileBulkUpdateRequest.Item> items, Long userId) {
+        // 같은 ID가 여러 번 오면 마지막 제목을 적용
+        Map<Long, FileBulkUpdateRequest.Item> itemsById = new LinkedHashMap<>();
+        items.forEach(item -> itemsById.put(item.getId(), item));
+        List<Long> requestedIds = normalizeBatchIds(new ArrayList<>(itemsById.keySet()), "수정");
+        
+        log.debug("파일 일괄 수정: 사용자 {}, {} 개", userId, requestedIds.size());
+        
+        Set<Long> ownedIds = fileRepository.findOwnedByIdIn(requestedIds, userId).stream()
+            .map(OwnedFileSnapshot::getId)
+            .collect(Collectors.toSet());
+        List<FileBulkUpdateRequest.Item> ownedItems = requestedIds.stream()
+            .filter(ownedIds::contains)
+            .map(itemsById::get)
+            .toList();
+        
+        Set<Long> updatedIds = new HashSet<>();
+        if (!ownedItems.isEmpty()) {
+            int[] counts = fileBulkRepository.updateTitles(ownedItems, userId, LocalDateTime.now());
+            for (int i = 0; i < counts.length; i++) {
+                // 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)도 성공으로 처리
+                if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                    updatedIds.add(ownedItems.get(i).getId());
+                }
+            }
+        }
+        
+        log.info("파일 일괄 수정 완료: 사용자 {}, {} / {} 개", userId, updatedIds.size(), requestedIds.size());
+        return bulkResponse(requestedIds, updatedIds, FileBulkResponse.Outcome.UPDATED);
+    }
+    
+    private List<Long> normalizeBatchIds(List<Long> fileIds, String action) {
+        // 요청 순서를 유지하면서 중복 ID 제거
+        List<Long> requestedIds = fileIds.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        
+        if (requestedIds.isEmpty()) {
+            throw new InvalidRequestException(action + "할 파일 ID가 없습니다");
+        }
+        if (requestedIds.size() > maxBatchIds) {
+            throw new InvalidRequestException("한 번에 최대 " + maxBatchIds + "개의 파일만 " + action + "할 수 있습니다");
+        }
+        return requestedIds;
+    }
+    
+    private FileBulkResponse bulkResponse(List<Long> requestedIds, Set<Long> succeededIds, FileBulkResponse.Outcome outcome) {
+        List<FileBulkResponse.FileBulkResult> results = requestedIds.stream()
+            .map(id -> FileBulkResponse.FileBulkResult.builder()
+                .id(id)
+                .outcome(succeededIds.contains(id) ? outcome : FileBulkResponse.Outcome.NOT_FOUND)
+                .build())
+            .toList();
+        
+        FileBulkResponse.FileBulkData data = FileBulkResponse.FileBulkData.builder()
+            .results(results)
+            .succeeded(succeededIds.size())
+            .failed(requestedIds.size() - succeededIds.size())
+            .build();
+        
+        return FileBulkResponse.builder()
+            .success(true)
+            .data(data)
+            .build();
     }
     
     @Override
@@ -430,7 +708,7 @@ public class FileServiceImpl implements FileService {
     @Override
     @Transactional(readOnly = true)
     public String getFileMimeType(Long fileId) {
-        log.info("파일 MIME 타입 조회: {}", fileId);
+        log.debug("파일 MIME 타입 조회: {}", fileId);
         
         File file = fileRepository.findById(fileId)
             .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + fileId));
@@ -441,7 +719,7 @@ public class FileServiceImpl implements FileService {
     @Override
     @Transactional(readOnly = true)
     public long getFileSize(Long fileId) {
-        log.info("파일 크기 조회: {}", fileId);
+        log.debug("파일 크기 조회: {}", fileId);
         
         File file = fileRepository.findById(fileId)
             .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + fileId));
@@ -0,0 +1,15 @@
+package com.example.deepfake.file.service;
+
+import java.util.List;
+
+public interface StorageDeletionService {
+    
+    // 호출한 트랜잭션 안에서 삭제 대기열에 기록 (트랜잭션이 롤백되면 함께 취소됨)
+    void enqueue(String publicId, String resourceType);
+    
+    // 여러 리소스를 한 번의 배치로 기록 (일괄 삭제용)
+    void enqueueAll(String resourceType, List<String> publicIds);
+    
+    // 처리 시각이 된 대기열을 한 번 처리하고 선점한 건수를 반환
+    int dispatch();
+}
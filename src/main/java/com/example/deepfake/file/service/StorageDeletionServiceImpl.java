@@ -0,0 +1,270 @@
+package com.example.deepfake.file.service;
+
+import com.example.deepfake.common.exception.StorageRateLimitedException;
+import com.example.deepfake.file.entity.StorageDeletion;
+import com.example.deepfake.file.repository.StorageDeletionRepository;
+import com.example.deepfake.file.storage.StorageClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+// 스토리지 삭제 outbox 처리
+// 선점/결과 반영은 각각 짧은 트랜잭션으로 수행하고, 원격 호출 중에는 DB 커넥션을 잡지 않음
+@Service
+@Slf4j
+public class StorageDeletionServiceImpl implements StorageDeletionService {
+    
+    private final StorageDeletionRepository storageDeletionRepository;
+    private final StorageClient storageClient;
+    private final StorageMetrics storageMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+    
+    // 시간 구간별 요청 수와 한도 초과 후 재개 시각 (인스턴스 메모리 기준)
+    private Instant requestWindowStart = Instant.EPOCH;
+    private int requestsInWindow;
+    private Instant pausedUntil = Instant.EPOCH;
+    
+    @Value("${storage.deletion.batch-size:500}")
+    private int batchSize;
+    
+    // 한 번의 스케줄 실행에서 처리할 최대 배치 수 (적체 시 다음 실행까지 기다리지 않고 이어서 처리)
+    @Value("${storage.deletion.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+    
+    // Admin API 시간당 호출 한도를 넘지 않도록 인스턴스별로 한 시간에 보내는 일괄 삭제 요청 수 제한
+    // 초과분은 선점하지 않고 다음 시간 구간에서 이어서 처리
+    @Value("${storage.deletion.max-requests-per-hour:200}")
+    private int maxRequestsPerHour;
+    
+    // 한도 초과(420/429) 응답을 받으면 이 시간 동안 요청을 보내지 않음
+    @Value("${storage.deletion.rate-limit-backoff:15m}")
+    private Duration rateLimitBackoff;
+    
+    @Value("${storage.deletion.lease:2m}")
+    private Duration lease;
+    
+    @Value("${storage.deletion.retry.base-delay:30s}")
+    private Duration retryBaseDelay;
+    
+    @Value("${storage.deletion.retry.max-delay:6h}")
+    private Duration retryMaxDelay;
+    
+    public StorageDeletionServiceImpl(StorageDeletionRepository storageDeletionRepository,
+                                      StorageClient storageClient,
+                                      StorageMetrics storageMetrics,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.storageDeletionRepository = storageDeletionRepository;
+        this.storageClient = storageClient;
+        this.storageMetrics = storageMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deletedCounter = Counter.builder("storage.deletion.outbox.processed")
+                .description("스토리지 삭제 대기열 처리 건수")
+                .tag("result", "deleted")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("storage.deletion.outbox.processed")
+                .description("스토리지 삭제 대기열 처리 건수")
+                .tag("result", "failed")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String publicId, String resourceType) {
+        LocalDateTime now = LocalDateTime.now();
+        storageDeletionRepository.save(StorageDeletion.builder()
+                .publicId(publicId)
+                .resourceType(resourceType)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(String resourceType, List<String> publicIds) {
+        if (publicIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        storageDeletionRepository.insertAll(publicIds.stream()
+                .map(publicId -> StorageDeletion.builder()
+                        .publicId(publicId)
+                        .resourceType(resourceType)
+                        .nextAttemptAt(now)
+                        .createdAt(now)
+                        .build())
+                .toList());
+    }
+    
+    // 한도 초과 응답을 받았거나 요청 예산을 다 쓰면 dispatch()가 0을 반환하므로 이번 실행이 끝남
+    @Scheduled(fixedDelayString = "${storage.deletion.dispatch-interval:5000}")
+    public void dispatchScheduled() {
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            if (dispatch() < batchSize) {
+                return;
+            }
+        }
+    }
+    
+    @Override
+    public int dispatch() {
+        int availableRequests = availableRequests(Instant.now());
+        if (availableRequests <= 0) {
+            return 0;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        int limit = (int) Math.min(batchSize, (long) availableRequests * StorageClient.MAX_BULK_DELETE);
+        List<StorageDeletion> claimed = transactionTemplate.execute(
+                status -> storageDeletionRepository.claimDue(now, now.plus(lease), limit));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        
+        // 리소스 타입별로 묶어 최대 100개씩 나누고, 남은 요청 예산만큼만 동시에 요청
+        List<List<StorageDeletion>> parts = new ArrayList<>();
+        claimed.stream()
+                .collect(Collectors.groupingBy(StorageDeletion::getResourceType))
+                .forEach((resourceType, deletions) -> {
+                    for (int from = 0; from < deletions.size(); from += StorageClient.MAX_BULK_DELETE) {
+                        parts.add(deletions.subList(from, Math.min(from + StorageClient.MAX_BULK_DELETE, deletions.size())));
+                    }
+                });
+        int granted = reserveRequests(parts.size());
+        List<Long> unsentIds = new ArrayList<>();
+        List<Chunk> chunks = new ArrayList<>();
+        for (int i = 0; i < parts.size(); i++) {
+            List<StorageDeletion> part = parts.get(i);
+            if (i >= granted) {
+                part.forEach(deletion -> unsentIds.add(deletion.getId()));
+                continue;
+            }
+            String resourceType = part.get(0).getResourceType();
+            chunks.add(new Chunk(resourceType, part, storageMetrics.record("bulk_destroy", resourceType,
+                    () -> storageClient.deleteAll(part.stream().map(StorageDeletion::getPublicId).toList(), resourceType))));
+        }
+        
+        List<Long> completedIds = new ArrayList<>();
+        List<Long> rateLimitedIds = new ArrayList<>();
+        Map<String, List<Long>> failedIdsByError = new HashMap<>();
+        for (Chunk chunk : chunks) {
+            collectResults(chunk, completedIds, rateLimitedIds, failedIdsByError);
+        }
+        if (!rateLimitedIds.isEmpty()) {
+            pause(Instant.now().plus(rateLimitBackoff));
+            log.warn("스토리지 삭제 요청 한도 초과로 {} 동안 삭제 대기열 처리를 중단", rateLimitBackoff);
+        }
+        
+        // 이미 없는 리소스(not_found)도 목적을 달성했으므로 대기열에서 제거
+        // 한도 초과로 거절되었거나 보내지 못한 행은 실패로 세지 않고 재개 시각에 다시 처리
+        LocalDateTime completedAt = LocalDateTime.now();
+        LocalDateTime resumeAt = completedAt.plus(rateLimitedIds.isEmpty() ? Duration.ZERO : rateLimitBackoff);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!completedIds.isEmpty()) {
+                storageDeletionRepository.deleteAllByIdInBatch(completedIds);
+            }
+            failedIdsByError.forEach((error, ids) -> storageDeletionRepository.markFailed(
+                    ids, error, completedAt, retryBaseDelay.toSeconds(), retryMaxDelay.toSeconds()));
+            if (!rateLimitedIds.isEmpty() || !unsentIds.isEmpty()) {
+                List<Long> releasedIds = new ArrayList<>(rateLimitedIds);
+                releasedIds.addAll(unsentIds);
+                storageDeletionRepository.release(releasedIds, resumeAt);
+            }
+        });
+        
+        int failedCount = claimed.size() - completedIds.size() - rateLimitedIds.size() - unsentIds.size();
+        deletedCounter.increment(completedIds.size());
+        failedCounter.increment(failedCount);
+        // 완료된 변경은 INFO로 남기되 파일마다가 아니라 배치당 한 줄
+        if (!completedIds.isEmpty()) {
+            log.info("Cloudinary에서 파일 삭제 완료: {} 건", completedIds.size());
+        }
+        if (failedCount > 0) {
+            log.warn("스토리지 삭제 일부 실패: {} 건 중 {} 건 재시도 예정", claimed.size(), failedCount);
+        }
+        return claimed.size();
+    }
+    
+    // 재개 시각 전이거나 이번 시간 구간의 요청 예산을 다 쓰면 0
+    private synchronized int availableRequests(Instant now) {
+        if (now.isBefore(pausedUntil)) {
+            return 0;
+        }
+        if (!now.isBefore(requestWindowStart.plus(Duration.ofHours(1)))) {
+            requestWindowStart = now;
+            requestsInWindow = 0;
+        }
+        return maxRequestsPerHour - requestsInWindow;
+    }
+    
+    // 요청 예산에서 최대 wanted 건을 차감하고 실제로 보낼 수 있는 건수를 반환
+    private synchronized int reserveRequests(int wanted) {
+        int granted = Math.max(0, Math.min(wanted, maxRequestsPerHour - requestsInWindow));
+        requestsInWindow += granted;
+        return granted;
+    }
+    
+    private synchronized void pause(Instant until) {
+        if (until.isAfter(pausedUntil)) {
+            pausedUntil = until;
+        }
+    }
+    
+    private void collectResults(Chunk chunk, List<Long> completedIds, List<Long> rateLimitedIds,
+                                Map<String, List<Long>> failedIdsByError) {
+        Map<String, String> results;
+        try {
+            results = chunk.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof StorageRateLimitedException) {
+                chunk.deletions().forEach(deletion -> rateLimitedIds.add(deletion.getId()));
+                return;
+            }
+            String error = truncate(e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            chunk.deletions().forEach(deletion ->
+                    failedIdsByError.computeIfAbsent(error, key -> new ArrayList<>()).add(deletion.getId()));
+            return;
+        }
+        
+        for (StorageDeletion deletion : chunk.deletions()) {
+            String result = results.get(deletion.getPublicId());
+            if ("deleted".equals(result) || "not_found".equals(result)) {
+                completedIds.add(deletion.getId());
+            } else {
+                failedIdsByError.computeIfAbsent(truncate("삭제 결과: " + result), key -> new ArrayList<>())
+                        .add(deletion.getId());
+            }
+        }
+    }
+    
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+    
+    private record Chunk(String resourceType, List<StorageDeletion> deletions, CompletableFuture<Map<String, String>> result) {
+    }
+}
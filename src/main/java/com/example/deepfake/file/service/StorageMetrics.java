@@ -0,0 +1,64 @@
+package com.example.deepfake.file.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+// 외부 스토리지(Cloudinary) 호출 지연/결과와 업로드/서빙 바이트 수 계측
+@Component
+@RequiredArgsConstructor
+public class StorageMetrics {
+    
+    private final MeterRegistry meterRegistry;
+    
+    // 비동기 호출은 future 완료 시점에 시간을 기록 (호출 스레드의 대기 시간은 요청 추적의 storage 단계로 집계)
+    public <T> CompletableFuture<T> record(String operation, String resourceType, Supplier<CompletableFuture<T>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            stop(sample, operation, resourceType, "error");
+            throw e;
+        }
+        return future.whenComplete((result, error) ->
+                stop(sample, operation, resourceType, error == null ? "success" : "error"));
+    }
+    
+    private void stop(Timer.Sample sample, String operation, String resourceType, String outcome) {
+        sample.stop(Timer.builder("storage.requests")
+                .description("외부 스토리지 호출 시간")
+                .tag("operation", operation)
+                .tag("resource_type", resourceType)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+    
+    public void recordBytesUploaded(String resourceType, long bytes) {
+        Counter.builder("storage.bytes.uploaded")
+                .baseUnit("bytes")
+                .tag("resource_type", resourceType)
+                .register(meterRegistry)
+                .increment(bytes);
+        DistributionSummary.builder("storage.upload.size")
+                .baseUnit("bytes")
+                .tag("resource_type", resourceType)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(bytes);
+    }
+    
+    public void recordBytesServed(long bytes) {
+        Counter.builder("storage.bytes.served")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .increment(bytes);
+    }
+}
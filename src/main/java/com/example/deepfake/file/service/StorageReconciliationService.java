@@ -0,0 +1,9 @@
+package com.example.deepfake.file.service;
+
+import com.example.deepfake.file.dto.StorageReconciliationReport;
+
+public interface StorageReconciliationService {
+    
+    // 저장소 목록과 files 테이블을 양방향으로 비교해 고아 리소스/행을 보고(설정 시 정리)
+    StorageReconciliationReport reconcile();
+}
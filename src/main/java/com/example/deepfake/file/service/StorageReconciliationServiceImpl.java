@@ -0,0 +1,315 @@
+package com.example.deepfake.file.service;
+
+import com.example.deepfake.file.dto.OwnedFileSnapshot;
+import com.example.deepfake.file.dto.StorageReconciliationReport;
+import com.example.deepfake.file.entity.StorageReconciliationState;
+import com.example.deepfake.file.repository.FileBulkRepository;
+import com.example.deepfake.file.repository.FileRepository;
+import com.example.deepfake.file.repository.StorageReconciliationStateRepository;
+import com.example.deepfake.file.storage.StorageClient;
+import com.example.deepfake.file.storage.StorageListing;
+import com.example.deepfake.file.storage.StoredResource;
+import com.example.deepfake.gallery.service.DistinctCounterService;
+import com.example.deepfake.gallery.service.UploadAnalyticsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+// 저장소(Cloudinary 폴더)와 files 테이블의 양방향 정합성 검사
+// 양쪽 모두 페이지 단위로만 읽으므로 리소스/행 수와 관계없이 메모리 사용량은 페이지 크기로 제한됨
+// 업로드 직후(메타데이터 커밋 전)나 삭제 대기 중인 리소스를 오판하지 않도록 grace-period 이내 항목은 건너뜀
+// 진행 단계/커서는 페이지마다 DB에 저장하고, 임대(lease)를 가진 인스턴스 하나만 실행
+@Service
+@Slf4j
+public class StorageReconciliationServiceImpl implements StorageReconciliationService {
+    
+    private static final int LOGGED_SAMPLE_SIZE = 10;
+    
+    private final FileRepository fileRepository;
+    private final FileBulkRepository fileBulkRepository;
+    private final StorageClient storageClient;
+    private final StorageDeletionService storageDeletionService;
+    private final StorageReconciliationStateRepository stateRepository;
+    private final UploadAnalyticsService uploadAnalyticsService;
+    private final DistinctCounterService distinctCounterService;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter orphanAssetCounter;
+    private final Counter missingAssetCounter;
+    
+    // 임대 소유자 식별자 (인스턴스마다 다름)
+    private final String instanceId = UUID.randomUUID().toString();
+    
+    @Value("${storage.reconcile.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${cloudinary.folder:deepfake}")
+    private String folder;
+    
+    @Value("${storage.reconcile.page-size:500}")
+    private int pageSize;
+    
+    // Admin API 시간당 호출 한도를 넘지 않도록 한 번의 실행에서 보내는 목록/존재 확인 요청 수 제한
+    @Value("${storage.reconcile.max-requests-per-run:200}")
+    private int maxRequestsPerRun;
+    
+    // 페이지를 처리할 때마다 연장되므로 한 페이지 처리 시간보다 충분히 길면 됨
+    // 실행 중인 인스턴스가 종료되면 만료 후 다른 인스턴스가 이어서 실행
+    @Value("${storage.reconcile.lease-duration:15m}")
+    private Duration leaseDuration;
+    
+    @Value("${storage.reconcile.grace-period:1h}")
+    private Duration gracePeriod;
+    
+    @Value("${storage.reconcile.purge-orphan-assets:false}")
+    private boolean purgeOrphanAssets;
+    
+    @Value("${storage.reconcile.purge-missing-files:false}")
+    private boolean purgeMissingFiles;
+    
+    public StorageReconciliationServiceImpl(FileRepository fileRepository,
+                                            FileBulkRepository fileBulkRepository,
+                                            StorageClient storageClient,
+                                            StorageDeletionService storageDeletionService,
+                                            StorageReconciliationStateRepository stateRepository,
+                                            UploadAnalyticsService uploadAnalyticsService,
+                                            DistinctCounterService distinctCounterService,
+                                            PlatformTransactionManager transactionManager,
+                                            MeterRegistry meterRegistry) {
+        this.fileRepository = fileRepository;
+        this.fileBulkRepository = fileBulkRepository;
+        this.storageClient = storageClient;
+        this.storageDeletionService = storageDeletionService;
+        this.stateRepository = stateRepository;
+        this.uploadAnalyticsService = uploadAnalyticsService;
+        this.distinctCounterService = distinctCounterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.orphanAssetCounter = Counter.builder("storage.reconcile.orphans")
+                .description("정합성 검사에서 발견한 불일치 건수")
+                .tag("direction", "asset_without_file")
+                .register(meterRegistry);
+        this.missingAssetCounter = Counter.builder("storage.reconcile.orphans")
+                .description("정합성 검사에서 발견한 불일치 건수")
+                .tag("direction", "file_without_asset")
+                .register(meterRegistry);
+    }
+    
+    @Scheduled(cron = "${storage.reconcile.cron:0 0 5 * * *}")
+    public void reconcileScheduled() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+    
+    @Override
+    public StorageReconciliationReport reconcile() {
+        StorageReconciliationReport report = new StorageReconciliationReport();
+        StorageReconciliationState state = acquireLease();
+        if (state == null) {
+            log.info("다른 인스턴스가 저장소 정합성 검사를 실행 중이므로 건너뜀");
+            report.setSkipped(true);
+            report.setComplete(false);
+            return report;
+        }
+        
+        try {
+            int[] remainingRequests = {maxRequestsPerRun};
+            Instant cutoff = Instant.now().minus(gracePeriod);
+            
+            // 중단된 단계부터 이어서 검사하고, 마지막 단계(FILES)가 끝나면 이번 실행을 마침
+            while (true) {
+                StorageReconciliationState.Phase phase = state.getPhase();
+                boolean phaseComplete = phase == StorageReconciliationState.Phase.FILES
+                        ? scanFiles(state, LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault()), remainingRequests, report)
+                        : scanStorage(state, cutoff, remainingRequests, report);
+                if (!phaseComplete) {
+                    report.setComplete(false);
+                    break;
+                }
+                state.setPhase(phase.next());
+                state.setStorageCursor(null);
+                state.setFileCursor(0L);
+                saveProgress(state);
+                if (phase == StorageReconciliationState.Phase.FILES) {
+                    break;
+                }
+            }
+        } catch (LeaseLostException e) {
+            log.warn("저장소 정합성 검사 임대가 만료되어 중단 (다른 인스턴스에서 이어서 검사)");
+            report.setComplete(false);
+        } finally {
+            transactionTemplate.executeWithoutResult(
+                    status -> stateRepository.releaseLease(StorageReconciliationState.SINGLETON_ID, instanceId));
+        }
+        
+        log.info("저장소 정합성 검사 {}: 리소스 {} 건 중 DB 미기록 {} 건(정리 {}), 파일 {} 건 중 리소스 없음 {} 건(정리 {})",
+                report.isComplete() ? "완료" : "일부 완료(다음 실행에서 계속)",
+                report.getScannedAssets(), report.getOrphanAssets(), report.getPurgedAssets(),
+                report.getScannedFiles(), report.getMissingAssets(), report.getPurgedFiles());
+        return report;
+    }
+    
+    // 임대를 얻으면 저장된 진행 상태를, 다른 인스턴스가 실행 중이면 null을 반환
+    private StorageReconciliationState acquireLease() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            stateRepository.createIfAbsent(StorageReconciliationState.SINGLETON_ID, now);
+            int acquired = stateRepository.tryAcquireLease(StorageReconciliationState.SINGLETON_ID, instanceId,
+                    now, now.plus(leaseDuration));
+            if (acquired == 0) {
+                return null;
+            }
+            return stateRepository.findById(StorageReconciliationState.SINGLETON_ID).orElseThrow();
+        });
+    }
+    
+    // 처리한 페이지까지의 위치를 저장하고 임대를 연장
+    private void saveProgress(StorageReconciliationState state) {
+        Integer saved = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            return stateRepository.saveProgress(StorageReconciliationState.SINGLETON_ID, instanceId,
+                    state.getPhase(), state.getStorageCursor(), state.getFileCursor(), now, now.plus(leaseDuration));
+        });
+        if (saved == null || saved == 0) {
+            throw new LeaseLostException();
+        }
+    }
+    
+    // 저장소 -> DB: 폴더 목록을 페이지 단위로 읽고 public_id를 files.name과 IN 쿼리로 대조
+    private boolean scanStorage(StorageReconciliationState state, Instant cutoff, int[] remainingRequests,
+                                StorageReconciliationReport report) {
+        String resourceType = state.getPhase().getResourceType();
+        String cursor = state.getStorageCursor();
+        do {
+            if (remainingRequests[0] <= 0) {
+                return false;
+            }
+            remainingRequests[0]--;
+            
+            StorageListing listing = storageClient.list(resourceType, folder + "/", cursor, pageSize).join();
+            List<String> candidates = listing.getResources().stream()
+                    .filter(resource -> resource.getCreatedAt() == null || resource.getCreatedAt().isBefore(cutoff))
+                    .map(StoredResource::getPublicId)
+                    .toList();
+            
+            Set<String> recorded = candidates.isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(fileRepository.findExistingNames(candidates));
+            List<String> orphans = candidates.stream()
+                    .filter(publicId -> !recorded.contains(publicId))
+                    .toList();
+            
+            report.setScannedAssets(report.getScannedAssets() + listing.getResources().size());
+            report.setOrphanAssets(report.getOrphanAssets() + orphans.size());
+            orphanAssetCounter.increment(orphans.size());
+            if (!orphans.isEmpty()) {
+                log.warn("DB에 기록이 없는 {} 리소스 {} 건: {}", resourceType, orphans.size(), sample(orphans));
+                if (purgeOrphanAssets) {
+                    // 실제 삭제는 삭제 대기열에서 일괄 삭제 API로 처리
+                    transactionTemplate.executeWithoutResult(
+                            status -> storageDeletionService.enqueueAll(resourceType, orphans));
+                    report.setPurgedAssets(report.getPurgedAssets() + orphans.size());
+                }
+            }
+            cursor = listing.getNextCursor();
+            if (cursor != null) {
+                state.setStorageCursor(cursor);
+                saveProgress(state);
+            }
+        } while (cursor != null);
+        return true;
+    }
+    
+    // DB -> 저장소: files를 ID 키셋 페이지로 읽고 리소스 존재 여부를 최대 100개씩 동시에 확인
+    private boolean scanFiles(StorageReconciliationState state, LocalDateTime uploadedBefore,
+                              int[] remainingRequests, StorageReconciliationReport report) {
+        long afterId = state.getFileCursor();
+        while (true) {
+            List<OwnedFileSnapshot> files = fileRepository.findSnapshotsAfter(afterId, uploadedBefore,
+                    PageRequest.of(0, pageSize));
+            if (files.isEmpty()) {
+                return true;
+            }
+            
+            Map<String, List<OwnedFileSnapshot>> filesByResourceType = files.stream()
+                    .collect(Collectors.groupingBy(file -> FileMapper.resourceType(file.getType())));
+            int requiredRequests = filesByResourceType.values().stream()
+                    .mapToInt(typedFiles -> (typedFiles.size() + StorageClient.MAX_LOOKUP - 1) / StorageClient.MAX_LOOKUP)
+                    .sum();
+            if (remainingRequests[0] < requiredRequests) {
+                return false;
+            }
+            remainingRequests[0] -= requiredRequests;
+            
+            List<CompletableFuture<Set<String>>> lookups = new ArrayList<>();
+            filesByResourceType.forEach((resourceType, typedFiles) -> {
+                for (int from = 0; from < typedFiles.size(); from += StorageClient.MAX_LOOKUP) {
+                    List<String> publicIds = typedFiles.subList(from, Math.min(from + StorageClient.MAX_LOOKUP, typedFiles.size()))
+                            .stream()
+                            .map(OwnedFileSnapshot::getName)
+                            .toList();
+                    lookups.add(storageClient.findExisting(publicIds, resourceType));
+                }
+            });
+            Set<String> existing = new HashSet<>();
+            lookups.forEach(lookup -> existing.addAll(lookup.join()));
+            
+            List<OwnedFileSnapshot> missing = files.stream()
+                    .filter(file -> !existing.contains(file.getName()))
+                    .toList();
+            
+            report.setScannedFiles(report.getScannedFiles() + files.size());
+            report.setMissingAssets(report.getMissingAssets() + missing.size());
+            missingAssetCounter.increment(missing.size());
+            if (!missing.isEmpty()) {
+                List<Long> missingIds = missing.stream().map(OwnedFileSnapshot::getId).toList();
+                log.warn("저장소에 리소스가 없는 파일 {} 건: {}", missing.size(), sample(missingIds));
+                if (purgeMissingFiles) {
+                    report.setPurgedFiles(report.getPurgedFiles() + purgeFiles(missingIds));
+                }
+            }
+            afterId = files.get(files.size() - 1).getId();
+            state.setFileCursor(afterId);
+            saveProgress(state);
+        }
+    }
+    
+    // 실제로 삭제된 행 기준으로 업로드 추이(롤업)를 반영하고 조회자 스케치를 삭제
+    // 갤러리 통계/사용자 용량은 재집계 작업(gallery.stats.reconcile-interval, user.quota.reconcile-interval)에서 보정됨
+    private int purgeFiles(List<Long> fileIds) {
+        List<OwnedFileSnapshot> purged = transactionTemplate.execute(status -> {
+            List<OwnedFileSnapshot> deleted = fileBulkRepository.deleteByIds(fileIds);
+            uploadAnalyticsService.recordDeletions(LocalDateTime.now(), deleted);
+            distinctCounterService.discard(deleted.stream()
+                    .map(file -> DistinctCounterService.fileViewersKey(file.getId()))
+                    .toList());
+            return deleted;
+        });
+        return purged == null ? 0 : purged.size();
+    }
+    
+    private static <T> List<T> sample(List<T> values) {
+        return values.size() <= LOGGED_SAMPLE_SIZE ? values : values.subList(0, LOGGED_SAMPLE_SIZE);
+    }
+    
+    private static class LeaseLostException extends RuntimeException {
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.deepfake.file.storage;
+
+import com.example.deepfake.common.exception.StorageException;
+import com.example.deepfake.common.exception.StorageRateLimitedException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// Cloudinary 업로드 API(v1_1) 클라이언트
+// JDK HttpClient 하나를 공유해 연결을 재사용(TLS 핸드셰이크 최소화)하고, 가능하면 HTTP/2로 다중화
+@Component
+@Slf4j
+public class CloudinaryStorageClient implements StorageClient {
+    
+    private static final String DEFAULT_API_BASE_URL = "https://api.cloudinary.com";
+    private static final Pattern UNSAFE_HEADER_CHARS = Pattern.compile("[\\p{Cc}\\p{Zl}\\p{Zp}\"\\\\]");
+    
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String cloudName;
+    private final String apiKey;
+    private final String apiSecret;
+    private final String apiBaseUrl;
+    private final Duration requestTimeout;
+    private final String basicAuthorization;
+    
+    public CloudinaryStorageClient(@Qualifier("cloudinaryHttpClient") HttpClient httpClient,
+                                   ObjectMapper objectMapper,
+                                   @Value("${cloudinary.cloud-name}") String cloudName,
+                                   @Value("${cloudinary.api-key}") String apiKey,
+                                   @Value("${cloudinary.api-secret}") String apiSecret,
+                                   @Value("${cloudinary.upload-prefix:}") String uploadPrefix,
+                                   @Value("${cloudinary.http.request-timeout:60s}") Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.cloudName = cloudName;
+        this.apiKey = apiKey;
+        this.apiSecret = apiSecret;
+        // 비어 있으면 Cloudinary 기본 주소. 부하 테스트에서는 로컬 대체 서버 주소
+        this.apiBaseUrl = uploadPrefix.isBlank() ? DEFAULT_API_BASE_URL : uploadPrefix;
+        this.requestTimeout = requestTimeout;
+        this.basicAuthorization = "Basic " + Base64.getEncoder()
+                .encodeToString((apiKey + ":" + apiSecret).getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public CompletableFuture<StoredObject> upload(StorageUploadRequest request) {
+        Map<String, String> params = new TreeMap<>(request.getOptions());
+        if (request.getFolder() != null) {
+            params.put("folder", request.getFolder());
+        }
+        params.put("public_id", request.getPublicId());
+        sign(params);
+        
+        String boundary = "----deepfake" + UUID.randomUUID().toString().replace("-", "");
+        HttpRequest httpRequest = HttpRequest.newBuilder(apiUri(request.getResourceType(), "upload"))
+                .timeout(requestTimeout)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(multipartBody(boundary, params, request))
+                .build();
+        
+        return send(httpRequest, "upload " + request.getPublicId())
+                .thenApply(json -> new StoredObject(
+                        json.path("public_id").asText(),
+                        json.path("secure_url").asText(),
+                        json.path("resource_type").asText(request.getResourceType())));
+    }
+    
+    @Override
+    public CompletableFuture<Boolean> delete(String publicId, String resourceType) {
+        Map<String, String> params = new TreeMap<>();
+        params.put("public_id", publicId);
+        sign(params);
+        
+        String form = params.entrySet().stream()
+                .map(entry -> URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        HttpRequest httpRequest = HttpRequest.newBuilder(apiUri(resourceType, "destroy"))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+        
+        return send(httpRequest, "destroy " + publicId)
+                .thenApply(json -> "ok".equals(json.path("result").asText()));
+    }
+    
+    // Admin API 일괄 삭제 (Basic 인증, 요청당 최대 100개)
+    @Override
+    public CompletableFuture<Map<String, String>> deleteAll(List<String> publicIds, String resourceType) {
+        if (publicIds.size() > MAX_BULK_DELETE) {
+            throw new IllegalArgumentException("일괄 삭제는 최대 " + MAX_BULK_DELETE + "개까지 가능합니다");
+        }
+        if (publicIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        
+        String query = publicIds.stream()
+                .map(publicId -> "public_ids[]=" + URLEncoder.encode(publicId, StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        HttpRequest httpRequest = HttpRequest.newBuilder(
+                        URI.create(apiBaseUrl + "/v1_1/" + cloudName + "/resources/" + resourceType + "/upload?" + query))
+                .timeout(requestTimeout)
+                .header("Authorization", basicAuthorization)
+                .DELETE()
+                .build();
+        
+        return send(httpRequest, "bulk delete " + publicIds.size() + " " + resourceType)
+                .thenApply(json -> {
+                    Map<String, String> results = new LinkedHashMap<>();
+                    json.path("deleted").fields()
+                            .forEachRemaining(entry -> results.put(entry.getKey(), entry.getValue().asText()));
+                    return results;
+                });
+    }
+    
+    // Admin API 리소스 목록 (Basic 인증, 페이지당 최대 500개)
+    @Override
+    public CompletableFuture<StorageListing> list(String resourceType, String prefix, String cursor, int maxResults) {
+        StringBuilder query = new StringBuilder("max_results=").append(Math.min(maxResults, 500));
+        if (prefix != null && !prefix.isEmpty()) {
+            query.append("&prefix=").append(URLEncoder.encode(prefix, StandardCharsets.UTF_8));
+        }
+        if (cursor != null) {
+            query.append("&next_cursor=").append(URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+        }
+        
+        return send(adminGet(resourceType, query.toString()), "list " + resourceType)
+                .thenApply(json -> new StorageListing(readResources(json, resourceType),
+                        json.hasNonNull("next_cursor") ? json.get("next_cursor").asText() : null));
+    }
+    
+    @Override
+    public CompletableFuture<Set<String>> findExisting(List<String> publicIds, String resourceType) {
+        if (publicIds.size() > MAX_LOOKUP) {
+            throw new IllegalArgumentException("존재 확인은 최대 " + MAX_LOOKUP + "개까지 가능합니다");
+        }
+        if (publicIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Set.of());
+        }
+        
+        String query = "max_results=" + MAX_LOOKUP + "&" + publicIds.stream()
+                .map(publicId -> "public_ids[]=" + URLEncoder.encode(publicId, StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return send(adminGet(resourceType, query), "lookup " + publicIds.size() + " " + resourceType)
+                .thenApply(json -> readResources(json, resourceType).stream()
+                        .map(StoredResource::getPublicId)
+                        .collect(Collectors.toSet()));
+    }
+    
+    private HttpRequest adminGet(String resourceType, String query) {
+        return HttpRequest.newBuilder(
+                        URI.create(apiBaseUrl + "/v1_1/" + cloudName + "/resources/" + resourceType + "/upload?" + query))
+                .timeout(requestTimeout)
+                .header("Authorization", basicAuthorization)
+                .GET()
+                .build();
+    }
+    
+    private List<StoredResource> readResources(JsonNode json, String resourceType) {
+        List<StoredResource> resources = new ArrayList<>();
+        for (JsonNode resource : json.path("resources")) {
+            String createdAt = resource.path("created_at").asText(null);
+            resources.add(new StoredResource(
+                    resource.path("public_id").asText(),
+                    resource.path("resource_type").asText(resourceType),
+                    createdAt != null ? Instant.parse(createdAt) : null));
+        }
+        return resources;
+    }
+    
+    private CompletableFuture<JsonNode> send(HttpRequest request, String description) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        throw new StorageException("스토리지 요청 실패 (" + description + "): " + cause.getMessage(), cause);
+                    }
+                    JsonNode json = readJson(response.body());
+                    // Admin API 시간당 한도 초과는 420, 동시 요청 제한은 429로 응답
+                    if (response.statusCode() == 420 || response.statusCode() == 429) {
+                        String message = json.path("error").path("message").asText("HTTP " + response.statusCode());
+                        throw new StorageRateLimitedException("스토리지 요청 한도 초과 (" + description + "): " + message);
+                    }
+                    if (response.statusCode() != 200) {
+                        String message = json.path("error").path("message").asText("HTTP " + response.statusCode());
+                        throw new StorageException("스토리지 요청 실패 (" + description + "): " + message);
+                    }
+                    return json;
+                });
+    }
+    
+    private JsonNode readJson(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return objectMapper.createObjectNode();
+        }
+    }
+    
+    private URI apiUri(String resourceType, String action) {
+        return URI.create(apiBaseUrl + "/v1_1/" + cloudName + "/" + resourceType + "/" + action);
+    }
+    
+    // 서명 대상: file, api_key, resource_type, cloud_name을 제외한 파라미터를 이름순으로 k=v&... + api_secret (SHA-1)
+    private void sign(Map<String, String> params) {
+        params.put("timestamp", String.valueOf(Instant.now().getEpochSecond()));
+        String toSign = params.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining("&"));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            params.put("signature", HexFormat.of().formatHex(
+                    digest.digest((toSign + apiSecret).getBytes(StandardCharsets.UTF_8))));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        params.put("api_key", apiKey);
+    }
+    
+    // 텍스트 필드는 바이트 배열, 파일 파트는 전송 시점에 스트림으로 읽음 (Content-Length는 미리 계산)
+    private HttpRequest.BodyPublisher multipartBody(String boundary, Map<String, String> params, StorageUploadRequest request) {
+        List<HttpRequest.BodyPublisher> parts = new ArrayList<>();
+        StringBuilder fields = new StringBuilder();
+        params.forEach((name, value) -> fields.append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"").append(name).append("\"\r\n\r\n")
+                .append(value).append("\r\n"));
+        fields.append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"file\"; filename=\"")
+                .append(headerValue(request.getFilename(), "file"))
+                .append("\"\r\n")
+                .append("Content-Type: ")
+                .append(headerValue(request.getContentType(), "application/octet-stream"))
+                .append("\r\n\r\n");
+        parts.add(HttpRequest.BodyPublishers.ofString(fields.toString(), StandardCharsets.UTF_8));
+        
+        HttpRequest.BodyPublisher content = HttpRequest.BodyPublishers.ofInputStream(() -> {
+            try {
+                return request.getContent().getInputStream();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        parts.add(HttpRequest.BodyPublishers.fromPublisher(content, request.getSize()));
+        parts.add(HttpRequest.BodyPublishers.ofString("\r\n--" + boundary + "--\r\n", StandardCharsets.UTF_8));
+        return HttpRequest.BodyPublishers.concat(parts.toArray(HttpRequest.BodyPublisher[]::new));
+    }
+    
+    // 파일명/Content-Type은 클라이언트가 보낸 값이므로 헤더를 끝내거나 새 헤더/파트를 만들 수 있는
+    // 제어 문자(CR/LF 포함), 줄 구분 문자, 따옴표, 역슬래시를 제거
+    static String headerValue(String value, String defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        String sanitized = UNSAFE_HEADER_CHARS.matcher(value).replaceAll("").strip();
+        return sanitized.isEmpty() ? defaultValue : sanitized;
+    }
+}
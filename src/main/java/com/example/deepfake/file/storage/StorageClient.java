@@ -0,0 +1,29 @@
+package com.example.deepfake.file.storage;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+// 외부 파일 저장소 클라이언트. 호출 스레드를 점유하지 않도록 모든 요청은 비동기로 완료됨
+// 실패 시 future는 StorageException으로 완료
+public interface StorageClient {
+    
+    // 일괄 삭제/존재 확인 한 번에 보낼 수 있는 최대 public_id 수
+    int MAX_BULK_DELETE = 100;
+    int MAX_LOOKUP = 100;
+    
+    CompletableFuture<StoredObject> upload(StorageUploadRequest request);
+    
+    // 삭제되었으면 true, 이미 없는 리소스이면 false
+    CompletableFuture<Boolean> delete(String publicId, String resourceType);
+    
+    // public_id별 결과("deleted", "not_found" 등). 최대 MAX_BULK_DELETE 개
+    CompletableFuture<Map<String, String>> deleteAll(List<String> publicIds, String resourceType);
+    
+    // prefix(폴더) 아래 리소스 목록 한 페이지. cursor가 null이면 첫 페이지
+    CompletableFuture<StorageListing> list(String resourceType, String prefix, String cursor, int maxResults);
+    
+    // 주어진 public_id 중 저장소에 존재하는 것. 최대 MAX_LOOKUP 개
+    CompletableFuture<Set<String>> findExisting(List<String> publicIds, String resourceType);
+}
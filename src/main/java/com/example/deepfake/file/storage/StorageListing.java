@@ -0,0 +1,13 @@
+package com.example.deepfake.file.storage;
+
+import lombok.Value;
+
+import java.util.List;
+
+// 저장소 목록 한 페이지. nextCursor가 null이면 마지막 페이지
+@Value
+public class StorageListing {
+    
+    List<StoredResource> resources;
+    String nextCursor;
+}
@@ -0,0 +1,26 @@
+package com.example.deepfake.file.storage;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import org.springframework.core.io.InputStreamSource;
+
+import java.util.Map;
+
+// 업로드 요청. 본문은 전송 시점에 스트림으로 읽어 파일 전체를 힙에 올리지 않음
+@Value
+@Builder
+public class StorageUploadRequest {
+    
+    InputStreamSource content;
+    long size;
+    String filename;
+    String contentType;
+    String folder;
+    String publicId;
+    String resourceType;
+    
+    // 저장소별 추가 업로드 옵션 (예: quality)
+    @Singular
+    Map<String, String> options;
+}
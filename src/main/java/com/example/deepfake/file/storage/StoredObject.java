@@ -0,0 +1,12 @@
+package com.example.deepfake.file.storage;
+
+import lombok.Value;
+
+// 저장소에 업로드된 리소스 정보
+@Value
+public class StoredObject {
+    
+    String publicId;
+    String secureUrl;
+    String resourceType;
+}
@@ -0,0 +1,14 @@
+package com.example.deepfake.file.storage;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+// 저장소 목록 조회 결과의 리소스 한 건
+@Value
+public class StoredResource {
+    
+    String publicId;
+    String resourceType;
+    Instant createdAt;
+}
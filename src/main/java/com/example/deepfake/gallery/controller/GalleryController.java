@@ -1,16 +1,25 @@
 package com.example.deepfake.gallery.controller;
 
+import com.example.deepfake.common.exception.InvalidRequestException;
 import com.example.deepfake.gallery.dto.GalleryStatsResponse;
+import com.example.deepfake.gallery.dto.GalleryTimeseriesResponse;
+import com.example.deepfake.gallery.entity.UploadRollup;
 import com.example.deepfake.gallery.service.GalleryService;
+import com.example.deepfake.gallery.service.UploadAnalyticsService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/gallery")
 @RequiredArgsConstructor
@@ -19,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class GalleryController {
     
     private final GalleryService galleryService;
+    private final UploadAnalyticsService uploadAnalyticsService;
     
     @GetMapping("/stats")
     @Operation(summary = "갤러리 통계 조회", description = "전체 갤러리의 통계 정보를 조회합니다")
@@ -27,4 +37,23 @@ public class GalleryController {
         GalleryStatsResponse response = galleryService.getGalleryStats();
         return ResponseEntity.ok(response);
     }
+    
+    @GetMapping("/stats/timeseries")
+    @Operation(summary = "업로드 추이 조회", description = "시간/일 단위로 집계된 업로드 및 삭제 추이를 조회합니다")
+    public ResponseEntity<GalleryTimeseriesResponse> getTimeseries(
+            @Parameter(description = "조회 시작 시각 (ISO-8601)") @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "조회 종료 시각 (ISO-8601, 미포함)") @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "집계 단위 (hour, day)") @RequestParam(name = "granularity", defaultValue = "hour") String granularity) {
+        log.info("업로드 추이 조회 요청: {} ~ {}, 단위 {}", from, to, granularity);
+        
+        UploadRollup.Granularity rollupGranularity;
+        try {
+            rollupGranularity = UploadRollup.Granularity.valueOf(granularity.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("지원하지 않는 집계 단위입니다: " + granularity);
+        }
+        
+        GalleryTimeseriesResponse response = uploadAnalyticsService.getTimeseries(from, to, rollupGranularity);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -24,5 +24,7 @@ public class GalleryStatsResponse {
         private Integer totalVideos;
         private Integer totalUsers;
         private Long totalSize;
+        // 오늘 업로드한 고유 사용자 수 (근사치)
+        private Long activeUploadersToday;
     }
 }
@@ -0,0 +1,17 @@
+package com.example.deepfake.gallery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GalleryStatsSnapshot {
+    
+    private Long totalFiles;
+    private Long totalImages;
+    private Long totalVideos;
+    private Long totalUsers;
+    private Long totalSize;
+}
@@ -0,0 +1,46 @@
+package com.example.deepfake.gallery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GalleryTimeseriesResponse {
+    
+    private Boolean success;
+    private TimeseriesData data;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TimeseriesData {
+        private String granularity;
+        private LocalDateTime from;
+        private LocalDateTime to;
+        private List<TimeseriesPoint> points;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TimeseriesPoint {
+        private LocalDateTime bucketStart;
+        private Long uploads;
+        private Long imageUploads;
+        private Long videoUploads;
+        private Long uploadedBytes;
+        private Long deletes;
+        private Long deletedBytes;
+        // 일 단위 조회 시 업로드한 고유 사용자 수 (근사치)
+        private Long activeUploaders;
+    }
+}
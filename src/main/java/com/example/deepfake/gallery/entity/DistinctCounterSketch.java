@@ -0,0 +1,32 @@
+package com.example.deepfake.gallery.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "distinct_counter_sketches")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DistinctCounterSketch {
+    
+    @Id
+    @Column(name = "sketch_key", length = 100)
+    private String sketchKey;
+    
+    // HyperLogLog 레지스터 (값이 적으면 희소 목록, 많으면 6비트 패킹 / bytea)
+    @Column(nullable = false)
+    private byte[] registers;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
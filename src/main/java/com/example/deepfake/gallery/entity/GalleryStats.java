@@ -0,0 +1,45 @@
+package com.example.deepfake.gallery.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "gallery_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GalleryStats {
+    
+    // 갤러리 전체 통계는 단일 행으로 관리
+    public static final Long SINGLETON_ID = 1L;
+    
+    @Id
+    private Long id;
+    
+    @Column(name = "total_files", nullable = false)
+    private Long totalFiles;
+    
+    @Column(name = "total_images", nullable = false)
+    private Long totalImages;
+    
+    @Column(name = "total_videos", nullable = false)
+    private Long totalVideos;
+    
+    @Column(name = "total_users", nullable = false)
+    private Long totalUsers;
+    
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+    
+    @Column(name = "reconciled_at")
+    private LocalDateTime reconciledAt;
+}
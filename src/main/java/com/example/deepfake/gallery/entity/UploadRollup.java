@@ -0,0 +1,50 @@
+package com.example.deepfake.gallery.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.temporal.ChronoUnit;
+
+@Entity
+@Table(name = "upload_rollups")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadRollup {
+    
+    @EmbeddedId
+    private UploadRollupId id;
+    
+    @Column(name = "upload_count", nullable = false)
+    private Long uploadCount;
+    
+    @Column(name = "upload_bytes", nullable = false)
+    private Long uploadBytes;
+    
+    @Column(name = "delete_count", nullable = false)
+    private Long deleteCount;
+    
+    @Column(name = "delete_bytes", nullable = false)
+    private Long deleteBytes;
+    
+    public enum Granularity {
+        HOUR(ChronoUnit.HOURS), DAY(ChronoUnit.DAYS);
+        
+        private final ChronoUnit unit;
+        
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+        
+        public ChronoUnit getUnit() {
+            return unit;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.deepfake.gallery.entity;
+
+import com.example.deepfake.file.entity.File;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadRollupId implements Serializable {
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private UploadRollup.Granularity granularity;
+    
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "file_type", nullable = false, length = 10)
+    private File.FileType fileType;
+}
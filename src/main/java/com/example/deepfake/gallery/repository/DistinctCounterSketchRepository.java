@@ -0,0 +1,20 @@
+package com.example.deepfake.gallery.repository;
+
+import com.example.deepfake.gallery.entity.DistinctCounterSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface DistinctCounterSketchRepository extends JpaRepository<DistinctCounterSketch, String> {
+    
+    // 여러 인스턴스가 같은 스케치를 동시에 병합할 때 유실되지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM DistinctCounterSketch s WHERE s.sketchKey = :sketchKey")
+    Optional<DistinctCounterSketch> findByIdForUpdate(@Param("sketchKey") String sketchKey);
+}
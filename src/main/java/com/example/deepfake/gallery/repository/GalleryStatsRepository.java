@@ -0,0 +1,35 @@
+package com.example.deepfake.gallery.repository;
+
+import com.example.deepfake.gallery.entity.GalleryStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface GalleryStatsRepository extends JpaRepository<GalleryStats, Long> {
+    
+    // 재집계 시 동시 증분 갱신과 충돌하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM GalleryStats s WHERE s.id = :id")
+    Optional<GalleryStats> findByIdForUpdate(@Param("id") Long id);
+    
+    // 업로드/삭제 시 카운터 증분 반영 (사용자 수는 증분으로 정확히 셀 수 없어 재집계에서만 갱신)
+    @Modifying
+    @Query("UPDATE GalleryStats s SET " +
+           "s.totalFiles = s.totalFiles + :files, " +
+           "s.totalImages = s.totalImages + :images, " +
+           "s.totalVideos = s.totalVideos + :videos, " +
+           "s.totalSize = s.totalSize + :size " +
+           "WHERE s.id = :id")
+    int applyDelta(@Param("id") Long id,
+                   @Param("files") long files,
+                   @Param("images") long images,
+                   @Param("videos") long videos,
+                   @Param("size") long size);
+}
@@ -0,0 +1,69 @@
+package com.example.deepfake.gallery.repository;
+
+import com.example.deepfake.gallery.entity.UploadRollup;
+import com.example.deepfake.gallery.entity.UploadRollupId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UploadRollupRepository extends JpaRepository<UploadRollup, UploadRollupId> {
+    
+    // 시간 단위 버킷에 업로드/삭제 증분 반영 (버킷이 없으면 생성)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "upload_rollups"))
+    @Modifying
+    @Query(value = "INSERT INTO upload_rollups " +
+                   "(granularity, bucket_start, file_type, upload_count, upload_bytes, delete_count, delete_bytes) " +
+                   "VALUES ('HOUR', :bucketStart, :fileType, :uploadCount, :uploadBytes, :deleteCount, :deleteBytes) " +
+                   "ON CONFLICT (granularity, bucket_start, file_type) DO UPDATE SET " +
+                   "upload_count = upload_rollups.upload_count + EXCLUDED.upload_count, " +
+                   "upload_bytes = upload_rollups.upload_bytes + EXCLUDED.upload_bytes, " +
+                   "delete_count = upload_rollups.delete_count + EXCLUDED.delete_count, " +
+                   "delete_bytes = upload_rollups.delete_bytes + EXCLUDED.delete_bytes",
+           nativeQuery = true)
+    int addToHourlyBucket(@Param("bucketStart") LocalDateTime bucketStart,
+                          @Param("fileType") String fileType,
+                          @Param("uploadCount") long uploadCount,
+                          @Param("uploadBytes") long uploadBytes,
+                          @Param("deleteCount") long deleteCount,
+                          @Param("deleteBytes") long deleteBytes);
+    
+    // 기준 시각 이전의 시간 단위 버킷을 일 단위 버킷으로 합산
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "upload_rollups"))
+    @Modifying
+    @Query(value = "INSERT INTO upload_rollups " +
+                   "(granularity, bucket_start, file_type, upload_count, upload_bytes, delete_count, delete_bytes) " +
+                   "SELECT 'DAY', date_trunc('day', bucket_start), file_type, " +
+                   "SUM(upload_count), SUM(upload_bytes), SUM(delete_count), SUM(delete_bytes) " +
+                   "FROM upload_rollups WHERE granularity = 'HOUR' AND bucket_start < :cutoff " +
+                   "GROUP BY date_trunc('day', bucket_start), file_type " +
+                   "ON CONFLICT (granularity, bucket_start, file_type) DO UPDATE SET " +
+                   "upload_count = upload_rollups.upload_count + EXCLUDED.upload_count, " +
+                   "upload_bytes = upload_rollups.upload_bytes + EXCLUDED.upload_bytes, " +
+                   "delete_count = upload_rollups.delete_count + EXCLUDED.delete_count, " +
+                   "delete_bytes = upload_rollups.delete_bytes + EXCLUDED.delete_bytes",
+           nativeQuery = true)
+    int mergeHourlyIntoDaily(@Param("cutoff") LocalDateTime cutoff);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "upload_rollups"))
+    @Modifying
+    @Query(value = "DELETE FROM upload_rollups WHERE granularity = 'HOUR' AND bucket_start < :cutoff",
+           nativeQuery = true)
+    int deleteHourlyBefore(@Param("cutoff") LocalDateTime cutoff);
+    
+    @Query("SELECT r FROM UploadRollup r WHERE r.id.granularity IN :granularities " +
+           "AND r.id.bucketStart >= :from AND r.id.bucketStart < :to " +
+           "ORDER BY r.id.bucketStart")
+    List<UploadRollup> findInRange(@Param("granularities") Collection<UploadRollup.Granularity> granularities,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to);
+}
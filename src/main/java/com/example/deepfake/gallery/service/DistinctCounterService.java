@@ -0,0 +1,28 @@
+package com.example.deepfake.gallery.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+public interface DistinctCounterService {
+    
+    static String dailyUploadersKey(LocalDate date) {
+        return "uploaders:" + date;
+    }
+    
+    // 대부분 조회자가 몇 명뿐이므로 희소 표현으로 저장됨 (수천 명을 넘는 파일만 약 12KB 밀집 표현)
+    static String fileViewersKey(Long fileId) {
+        return "file-viewers:" + fileId;
+    }
+    
+    void offer(String key, long value);
+    
+    long estimate(String key);
+    
+    Map<String, Long> estimateEach(Collection<String> keys);
+    
+    // 대상이 사라진 스케치(삭제된 파일의 조회자 등)를 대기 중인 증분과 함께 삭제
+    void discard(Collection<String> keys);
+    
+    void flush();
+}
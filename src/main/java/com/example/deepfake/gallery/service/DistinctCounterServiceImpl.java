@@ -0,0 +1,195 @@
+package com.example.deepfake.gallery.service;
+
+import com.example.deepfake.common.util.HyperLogLog;
+import com.example.deepfake.gallery.entity.DistinctCounterSketch;
+import com.example.deepfake.gallery.repository.DistinctCounterSketchRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class DistinctCounterServiceImpl implements DistinctCounterService {
+    
+    // 조회 시 한 번에 불러오는 스케치 수 (스케치당 최대 약 12KB)
+    private static final int LOAD_CHUNK_SIZE = 32;
+    
+    private final DistinctCounterSketchRepository sketchRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    // 아직 저장되지 않은 증분 스케치 (주기적으로 저장된 스케치에 병합)
+    private final ConcurrentHashMap<String, HyperLogLog> pendingSketches = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    // 대기 스케치가 가득 찼을 때의 저장은 요청 스레드가 아니라 전용 스레드에서 실행
+    private final ExecutorService flushExecutor;
+    
+    @Value("${analytics.distinct.max-pending-sketches:256}")
+    private int maxPendingSketches;
+    
+    public DistinctCounterServiceImpl(DistinctCounterSketchRepository sketchRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.sketchRepository = sketchRepository;
+        // 업로드 트랜잭션 중에 저장이 일어나도 별도 트랜잭션으로 처리
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.flushExecutor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("distinct-counter-flush").daemon().factory());
+        Gauge.builder("analytics.distinct.pending", pendingSketches, Map::size)
+                .description("아직 저장되지 않은 증분 스케치 수")
+                .register(meterRegistry);
+    }
+    
+    // 메모리 안에서만 처리하고 I/O는 하지 않음 (호출자의 트랜잭션/커넥션과 무관)
+    @Override
+    public void offer(String key, long value) {
+        // 값은 버리지 않고 항상 반영 (조회자 키는 계속 바뀌므로 버리면 오차 한도를 크게 넘음)
+        // 대기 스케치가 max-pending-sketches에 이르면 주기를 기다리지 않고 바로 백그라운드 저장을 요청
+        // 새 키의 스케치는 희소 표현이라 저장이 끝날 때까지 잠시 넘쳐도 키당 수십 바이트 수준
+        pendingSketches.compute(key, (k, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            target.offer(value);
+            return target;
+        });
+        
+        if (pendingSketches.size() >= maxPendingSketches) {
+            requestFlush();
+        }
+    }
+    
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> {
+                    flushRequested.set(false);
+                    flush();
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 flushOnShutdown에서 저장
+                flushRequested.set(false);
+            }
+        }
+    }
+    
+    @Override
+    public long estimate(String key) {
+        return estimateEach(List.of(key)).get(key);
+    }
+    
+    @Override
+    public Map<String, Long> estimateEach(Collection<String> keys) {
+        List<String> keyList = new ArrayList<>(new LinkedHashSet<>(keys));
+        Map<String, Long> estimates = new LinkedHashMap<>();
+        
+        for (int from = 0; from < keyList.size(); from += LOAD_CHUNK_SIZE) {
+            List<String> chunk = keyList.subList(from, Math.min(from + LOAD_CHUNK_SIZE, keyList.size()));
+            Map<String, DistinctCounterSketch> storedSketches = sketchRepository.findAllById(chunk).stream()
+                    .collect(Collectors.toMap(DistinctCounterSketch::getSketchKey, Function.identity()));
+            
+            for (String key : chunk) {
+                DistinctCounterSketch stored = storedSketches.get(key);
+                HyperLogLog sketch = stored != null ? HyperLogLog.fromBytes(stored.getRegisters()) : new HyperLogLog();
+                HyperLogLog pending = copyPending(key);
+                if (pending != null) {
+                    sketch.merge(pending);
+                }
+                estimates.put(key, sketch.estimate());
+            }
+        }
+        return estimates;
+    }
+    
+    // 호출자의 트랜잭션에서 삭제 (대상 행 삭제와 함께 커밋/롤백)
+    @Override
+    public void discard(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        keys.forEach(pendingSketches::remove);
+        sketchRepository.deleteAllByIdInBatch(keys);
+    }
+    
+    @Override
+    @Scheduled(fixedDelayString = "${analytics.distinct.flush-interval:30000}")
+    public void flush() {
+        if (pendingSketches.isEmpty() || !flushing.compareAndSet(false, true)) {
+            return;
+        }
+        
+        Map<String, HyperLogLog> batch = new HashMap<>();
+        try {
+            for (String key : pendingSketches.keySet()) {
+                HyperLogLog sketch = pendingSketches.remove(key);
+                if (sketch != null) {
+                    batch.put(key, sketch);
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::mergeIntoStore));
+            log.debug("고유 개수 스케치 저장 완료: {} 건", batch.size());
+        } catch (RuntimeException e) {
+            // 병합은 멱등이므로 대기 스케치로 되돌려 다음 주기에 재시도
+            log.warn("고유 개수 스케치 저장 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+            batch.forEach((key, sketch) -> pendingSketches.merge(key, sketch, HyperLogLog::merge));
+        } finally {
+            flushing.set(false);
+        }
+    }
+    
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+    
+    private void mergeIntoStore(String key, HyperLogLog sketch) {
+        DistinctCounterSketch stored = sketchRepository.findByIdForUpdate(key)
+                .orElseGet(() -> DistinctCounterSketch.builder().sketchKey(key).build());
+        
+        HyperLogLog merged = stored.getRegisters() != null
+                ? HyperLogLog.fromBytes(stored.getRegisters()).merge(sketch)
+                : sketch;
+        stored.setRegisters(merged.toBytes());
+        stored.setUpdatedAt(LocalDateTime.now());
+        sketchRepository.save(stored);
+    }
+    
+    private HyperLogLog copyPending(String key) {
+        // compute 안에서 복사해 동시에 들어오는 offer와 경합하지 않도록 함
+        HyperLogLog[] copy = new HyperLogLog[1];
+        pendingSketches.computeIfPresent(key, (k, sketch) -> {
+            copy[0] = sketch.copy();
+            return sketch;
+        });
+        return copy[0];
+    }
+}
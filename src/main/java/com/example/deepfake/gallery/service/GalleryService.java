@@ -5,4 +5,10 @@ import com.example.deepfake.gallery.dto.GalleryStatsResponse;
 public interface GalleryService {
     
     GalleryStatsResponse getGalleryStats();
+    
+    void recordUploads(long imageCount, long videoCount, long totalSize);
+    
+    void recordDeletions(long imageCount, long videoCount, long totalSize);
+    
+    void reconcileStats();
 }
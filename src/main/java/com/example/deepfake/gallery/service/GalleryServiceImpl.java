@@ -1,13 +1,21 @@
 package com.example.deepfake.gallery.service;
 
 import com.example.deepfake.gallery.dto.GalleryStatsResponse;
+import com.example.deepfake.gallery.dto.GalleryStatsSnapshot;
+import com.example.deepfake.gallery.entity.GalleryStats;
+import com.example.deepfake.gallery.repository.GalleryStatsRepository;
 import com.example.deepfake.file.repository.FileRepository;
 import com.example.deepfake.gallery.service.GalleryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -15,21 +23,29 @@ import org.springframework.transaction.annotation.Transactional;
 public class GalleryServiceImpl implements GalleryService {
     
     private final FileRepository fileRepository;
+    private final GalleryStatsRepository galleryStatsRepository;
+    private final DistinctCounterService distinctCounterService;
     
     @Override
     public GalleryStatsResponse getGalleryStats() {
-        Long totalFiles = fileRepository.countTotalFiles();
-        Long totalImages = fileRepository.countImages();
-        Long totalVideos = fileRepository.countVideos();
-        Long totalUsers = fileRepository.countUsers();
-        Long totalSize = fileRepository.sumTotalSize();
+        // 카운터 행 단건 조회 (아직 재집계 전이면 집계 쿼리로 대체)
+        GalleryStatsSnapshot snapshot = galleryStatsRepository.findById(GalleryStats.SINGLETON_ID)
+                .map(stats -> new GalleryStatsSnapshot(
+                        stats.getTotalFiles(),
+                        stats.getTotalImages(),
+                        stats.getTotalVideos(),
+                        stats.getTotalUsers(),
+                        stats.getTotalSize()))
+                .orElseGet(fileRepository::aggregateGalleryStats);
         
         GalleryStatsResponse.GalleryStatsData statsData = GalleryStatsResponse.GalleryStatsData.builder()
-                .totalFiles(totalFiles.intValue())
-                .totalImages(totalImages.intValue())
-                .totalVideos(totalVideos.intValue())
-                .totalUsers(totalUsers.intValue())
-                .totalSize(totalSize)
+                .totalFiles(snapshot.getTotalFiles().intValue())
+                .totalImages(snapshot.getTotalImages().intValue())
+                .totalVideos(snapshot.getTotalVideos().intValue())
+                .totalUsers(snapshot.getTotalUsers().intValue())
+                .totalSize(snapshot.getTotalSize())
+                .activeUploadersToday(distinctCounterService.estimate(
+                        DistinctCounterService.dailyUploadersKey(LocalDate.now())))
                 .build();
         
         return GalleryStatsResponse.builder()
@@ -37,4 +53,52 @@ public class GalleryServiceImpl implements GalleryService {
                 .data(statsData)
                 .build();
     }
+    
+    @Override
+    @Transactional
+    public void recordUploads(long imageCount, long videoCount, long totalSize) {
+        applyDelta(imageCount, videoCount, totalSize);
+    }
+    
+    @Override
+    @Transactional
+    public void recordDeletions(long imageCount, long videoCount, long totalSize) {
+        applyDelta(-imageCount, -videoCount, -totalSize);
+    }
+    
+    // 사용자 수는 첫 업로드/마지막 삭제 여부를 동시 요청 사이에서 원자적으로 판단할 수 없어
+    // 증분으로 갱신하지 않고 재집계(reconcileStats)에서만 보정
+    private void applyDelta(long images, long videos, long size) {
+        int updated = galleryStatsRepository.applyDelta(
+                GalleryStats.SINGLETON_ID, images + videos, images, videos, size);
+        if (updated == 0) {
+            // 카운터 행이 아직 없으면 다음 재집계에서 반영됨
+            log.debug("갤러리 통계 카운터가 초기화되지 않아 증분 반영을 건너뜁니다");
+        }
+    }
+    
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${gallery.stats.reconcile-interval:600000}")
+    public void reconcileStats() {
+        // 카운터 행을 잠근 상태에서 집계해 동시 업로드/삭제 증분이 유실되지 않도록 함
+        GalleryStats stats = galleryStatsRepository.findByIdForUpdate(GalleryStats.SINGLETON_ID)
+                .orElseGet(() -> GalleryStats.builder().id(GalleryStats.SINGLETON_ID).build());
+        
+        GalleryStatsSnapshot snapshot = fileRepository.aggregateGalleryStats();
+        
+        if (stats.getTotalFiles() != null && !Objects.equals(stats.getTotalFiles(), snapshot.getTotalFiles())) {
+            log.warn("갤러리 통계 불일치 보정: 파일 수 {} -> {}", stats.getTotalFiles(), snapshot.getTotalFiles());
+        }
+        
+        stats.setTotalFiles(snapshot.getTotalFiles());
+        stats.setTotalImages(snapshot.getTotalImages());
+        stats.setTotalVideos(snapshot.getTotalVideos());
+        stats.setTotalUsers(snapshot.getTotalUsers());
+        stats.setTotalSize(snapshot.getTotalSize());
+        stats.setReconciledAt(LocalDateTime.now());
+        galleryStatsRepository.save(stats);
+        
+        log.info("갤러리 통계 재집계 완료: 파일 {}, 사용자 {}", snapshot.getTotalFiles(), snapshot.getTotalUsers());
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.deepfake.gallery.service;
+
+import com.example.deepfake.file.dto.OwnedFileSnapshot;
+import com.example.deepfake.file.entity.File;
+import com.example.deepfake.gallery.dto.GalleryTimeseriesResponse;
+import com.example.deepfake.gallery.entity.UploadRollup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UploadAnalyticsService {
+    
+    void recordUploads(LocalDateTime occurredAt, File.FileType type, long count, long totalSize);
+    
+    void recordDeletions(LocalDateTime occurredAt, File.FileType type, long count, long totalSize);
+    
+    void recordDeletions(LocalDateTime occurredAt, List<OwnedFileSnapshot> deletedFiles);
+    
+    GalleryTimeseriesResponse getTimeseries(LocalDateTime from, LocalDateTime to, UploadRollup.Granularity granularity);
+    
+    void compactHourlyRollups();
+}
@@ -0,0 +1,158 @@
+package com.example.deepfake.gallery.service;
+
+import com.example.deepfake.common.exception.InvalidRequestException;
+import com.example.deepfake.file.dto.OwnedFileSnapshot;
+import com.example.deepfake.file.entity.File;
+import com.example.deepfake.gallery.dto.GalleryTimeseriesResponse;
+import com.example.deepfake.gallery.entity.UploadRollup;
+import com.example.deepfake.gallery.repository.UploadRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class UploadAnalyticsServiceImpl implements UploadAnalyticsService {
+    
+    private final UploadRollupRepository uploadRollupRepository;
+    private final DistinctCounterService distinctCounterService;
+    
+    @Value("${analytics.rollup.hourly-retention-days:7}")
+    private int hourlyRetentionDays;
+    
+    @Value("${analytics.timeseries.max-points:2000}")
+    private long maxPoints;
+    
+    @Override
+    @Transactional
+    public void recordUploads(LocalDateTime occurredAt, File.FileType type, long count, long totalSize) {
+        if (count == 0) {
+            return;
+        }
+        uploadRollupRepository.addToHourlyBucket(
+                occurredAt.truncatedTo(ChronoUnit.HOURS), type.name(), count, totalSize, 0, 0);
+    }
+    
+    @Override
+    @Transactional
+    public void recordDeletions(LocalDateTime occurredAt, File.FileType type, long count, long totalSize) {
+        if (count == 0) {
+            return;
+        }
+        uploadRollupRepository.addToHourlyBucket(
+                occurredAt.truncatedTo(ChronoUnit.HOURS), type.name(), 0, 0, count, totalSize);
+    }
+    
+    // 일괄 삭제 결과(실제로 삭제된 행)를 유형별로 묶어 반영
+    @Override
+    @Transactional
+    public void recordDeletions(LocalDateTime occurredAt, List<OwnedFileSnapshot> deletedFiles) {
+        deletedFiles.stream()
+                .collect(Collectors.groupingBy(OwnedFileSnapshot::getType))
+                .forEach((type, typedFiles) -> recordDeletions(occurredAt, type, typedFiles.size(),
+                        typedFiles.stream().mapToLong(OwnedFileSnapshot::getSize).sum()));
+    }
+    
+    @Override
+    public GalleryTimeseriesResponse getTimeseries(LocalDateTime from, LocalDateTime to,
+                                                   UploadRollup.Granularity granularity) {
+        if (!from.isBefore(to)) {
+            throw new InvalidRequestException("조회 시작 시각은 종료 시각보다 이전이어야 합니다");
+        }
+        // 시작 시각이 구간 중간이면 그 구간 버킷(시작 시각이 구간 경계)이 범위에서 빠지므로 경계로 내림
+        LocalDateTime bucketFrom = from.truncatedTo(granularity.getUnit());
+        if (granularity.getUnit().between(bucketFrom, to) > maxPoints) {
+            throw new InvalidRequestException("조회 구간이 너무 깁니다 (최대 " + maxPoints + "개 구간)");
+        }
+        // 보관 기간이 지난 시간 단위 버킷은 일 단위로 압축되어 없으므로 빈 결과 대신 오류로 알림
+        if (granularity == UploadRollup.Granularity.HOUR && bucketFrom.isBefore(hourlyRetentionCutoff())) {
+            throw new InvalidRequestException("시간 단위 추이는 최근 " + hourlyRetentionDays
+                    + "일까지만 조회할 수 있습니다 (이전 구간은 일 단위로 조회)");
+        }
+        
+        // 일 단위 조회 시 아직 압축되지 않은 시간 단위 버킷도 함께 합산
+        EnumSet<UploadRollup.Granularity> granularities = granularity == UploadRollup.Granularity.DAY
+                ? EnumSet.allOf(UploadRollup.Granularity.class)
+                : EnumSet.of(UploadRollup.Granularity.HOUR);
+        List<UploadRollup> rollups = uploadRollupRepository.findInRange(granularities, bucketFrom, to);
+        
+        Map<LocalDateTime, GalleryTimeseriesResponse.TimeseriesPoint> points = new TreeMap<>();
+        for (UploadRollup rollup : rollups) {
+            LocalDateTime bucketStart = rollup.getId().getBucketStart().truncatedTo(granularity.getUnit());
+            GalleryTimeseriesResponse.TimeseriesPoint point = points.computeIfAbsent(bucketStart, this::emptyPoint);
+            
+            point.setUploads(point.getUploads() + rollup.getUploadCount());
+            point.setUploadedBytes(point.getUploadedBytes() + rollup.getUploadBytes());
+            point.setDeletes(point.getDeletes() + rollup.getDeleteCount());
+            point.setDeletedBytes(point.getDeletedBytes() + rollup.getDeleteBytes());
+            if (rollup.getId().getFileType() == File.FileType.IMAGE) {
+                point.setImageUploads(point.getImageUploads() + rollup.getUploadCount());
+            } else {
+                point.setVideoUploads(point.getVideoUploads() + rollup.getUploadCount());
+            }
+        }
+        
+        // 일 단위 조회 시 HyperLogLog 스케치로 고유 업로더 수 추정
+        if (granularity == UploadRollup.Granularity.DAY && !points.isEmpty()) {
+            Map<String, Long> uploaders = distinctCounterService.estimateEach(points.keySet().stream()
+                    .map(day -> DistinctCounterService.dailyUploadersKey(day.toLocalDate()))
+                    .toList());
+            points.forEach((day, point) -> point.setActiveUploaders(
+                    uploaders.get(DistinctCounterService.dailyUploadersKey(day.toLocalDate()))));
+        }
+        
+        GalleryTimeseriesResponse.TimeseriesData data = GalleryTimeseriesResponse.TimeseriesData.builder()
+                .granularity(granularity.name())
+                .from(bucketFrom)
+                .to(to)
+                .points(new ArrayList<>(points.values()))
+                .build();
+        
+        return GalleryTimeseriesResponse.builder()
+                .success(true)
+                .data(data)
+                .build();
+    }
+    
+    @Override
+    @Transactional
+    @Scheduled(cron = "${analytics.rollup.compaction-cron:0 15 3 * * *}")
+    public void compactHourlyRollups() {
+        // 보관 기간이 지난 시간 단위 버킷을 일 단위로 합산 후 삭제 (하루 경계 기준)
+        LocalDateTime cutoff = hourlyRetentionCutoff();
+        int merged = uploadRollupRepository.mergeHourlyIntoDaily(cutoff);
+        int deleted = uploadRollupRepository.deleteHourlyBefore(cutoff);
+        log.info("업로드 통계 압축 완료: 기준 {}, 일 단위 {} 건 갱신, 시간 단위 {} 건 삭제", cutoff, merged, deleted);
+    }
+    
+    private LocalDateTime hourlyRetentionCutoff() {
+        return LocalDate.now().minusDays(hourlyRetentionDays).atStartOfDay();
+    }
+    
+    private GalleryTimeseriesResponse.TimeseriesPoint emptyPoint(LocalDateTime bucketStart) {
+        return GalleryTimeseriesResponse.TimeseriesPoint.builder()
+                .bucketStart(bucketStart)
+                .uploads(0L)
+                .imageUploads(0L)
+                .videoUploads(0L)
+                .uploadedBytes(0L)
+                .deletes(0L)
+                .deletedBytes(0L)
+                .build();
+    }
+}
@@ -12,8 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import com.example.deepfake.auth.service.JwtService;
-import jakarta.servlet.http.HttpServletRequest;
+import com.example.deepfake.common.security.CurrentUserId;
 
 @RestController
 @RequestMapping("/users")
@@ -24,21 +23,10 @@ import jakarta.servlet.http.HttpServletRequest;
 public class UserController {
     
     private final UserService userService;
-    private final JwtService jwtService;
-    
-    private Long getUserIdFromRequest(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            return jwtService.getUserIdFromToken(token);
-        }
-        throw new RuntimeException("인증 토큰이 없습니다");
-    }
     
     @GetMapping("/me")
     @Operation(summary = "내 정보 조회", description = "현재 로그인한 사용자의 정보를 조회합니다")
-    public ResponseEntity<SuccessResponse<UserDto>> getCurrentUser(HttpServletRequest request) {
-        Long userId = getUserIdFromRequest(request);
+    public ResponseEntity<SuccessResponse<UserDto>> getCurrentUser(@CurrentUserId Long userId) {
         log.info("사용자 정보 조회 요청: {}", userId);
         UserDto userData = userService.getCurrentUser(userId);
         
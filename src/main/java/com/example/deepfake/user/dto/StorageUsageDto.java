@@ -0,0 +1,20 @@
+package com.example.deepfake.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorageUsageDto {
+    
+    private Long bytesUsed;
+    private Long imageCount;
+    private Long videoCount;
+    // 한도가 없으면 null
+    private Long quotaBytes;
+    private Long quotaFiles;
+}
@@ -18,4 +18,5 @@ public class UserDto {
     private String name;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private StorageUsageDto storage;
 }
@@ -0,0 +1,23 @@
+package com.example.deepfake.user.entity;
+
+import com.example.deepfake.user.service.UserStatusService;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// 사용자 변경/삭제 시 인증용 사용자 상태 캐시를 무효화
+// Hibernate가 SpringBeanContainer로 생성하므로 순환 의존을 피하려고 ObjectProvider로 지연 조회
+@Component
+@RequiredArgsConstructor
+public class UserStatusEntityListener {
+    
+    private final ObjectProvider<UserStatusService> userStatusService;
+    
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        userStatusService.ifAvailable(service -> service.evict(user.getId()));
+    }
+}
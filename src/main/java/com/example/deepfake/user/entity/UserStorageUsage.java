@@ -0,0 +1,41 @@
+package com.example.deepfake.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "user_storage_usage")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStorageUsage {
+    
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Column(name = "bytes_used", nullable = false)
+    private Long bytesUsed;
+    
+    @Column(name = "image_count", nullable = false)
+    private Long imageCount;
+    
+    @Column(name = "video_count", nullable = false)
+    private Long videoCount;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    public long getFileCount() {
+        return imageCount + videoCount;
+    }
+}
@@ -2,14 +2,23 @@ package com.example.deepfake.user.repository;
 
 import com.example.deepfake.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-
-import java.util.Optional;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     
     boolean existsByEmail(String email);
+    
+    // 로그인 시 해시 재암호화 결과 저장 (다른 요청이 이미 갱신했다면 덮어쓰지 않음)
+    // 벌크 갱신이므로 Hibernate가 users 2차 캐시 영역 전체를 비움 (해시 파라미터 변경 시에만 발생)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :userId AND u.password = :oldHash")
+    int updatePasswordHash(@Param("userId") Long userId,
+                           @Param("oldHash") String oldHash,
+                           @Param("newHash") String newHash);
 }
@@ -0,0 +1,11 @@
+package com.example.deepfake.user.repository;
+
+import com.example.deepfake.user.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    
+    // 파생 쿼리 대신 자연 키 조회로 처리해 2차 캐시(이메일 -> ID, ID -> 사용자)를 거침
+    Optional<User> findByEmail(String email);
+}
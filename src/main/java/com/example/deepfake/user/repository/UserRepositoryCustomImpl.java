@@ -0,0 +1,26 @@
+package com.example.deepfake.user.repository;
+
+import com.example.deepfake.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    // 자연 키 조회는 열린 세션이 필요하므로 트랜잭션에서 실행
+    // 로그인/인증 조회라 가입 직후에도 찾을 수 있도록 읽기 전용으로 두지 않아 복제본이 아닌 primary로 라우팅
+    // (캐시에 있으면 실제 DB 커넥션을 가져오지 않음)
+    @Override
+    @Transactional
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.deepfake.user.repository;
+
+import com.example.deepfake.user.entity.UserStorageUsage;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserStorageUsageRepository extends JpaRepository<UserStorageUsage, Long> {
+    
+    // 업로드/삭제 시 사용량 증분 반영 (행이 없으면 생성)
+    // 네이티브 DML은 변경 테이블을 지정하지 않으면 Hibernate가 2차 캐시 전체를 비우므로 대상 테이블을 명시
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_storage_usage"))
+    @Modifying
+    @Query(value = "INSERT INTO user_storage_usage (user_id, bytes_used, image_count, video_count, updated_at) " +
+                   "VALUES (:userId, :bytes, :images, :videos, now()) " +
+                   "ON CONFLICT (user_id) DO UPDATE SET " +
+                   "bytes_used = user_storage_usage.bytes_used + EXCLUDED.bytes_used, " +
+                   "image_count = user_storage_usage.image_count + EXCLUDED.image_count, " +
+                   "video_count = user_storage_usage.video_count + EXCLUDED.video_count, " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("bytes") long bytes,
+                   @Param("images") long images,
+                   @Param("videos") long videos);
+    
+    // 재집계 대상 사용자 ID 키셋 페이지
+    @Query(value = "SELECT id FROM users WHERE id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findUserIdsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+    
+    // 사용량 행이 없는 사용자는 0으로 생성해 아래 행 잠금 대상에 포함
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_storage_usage"))
+    @Modifying
+    @Query(value = "INSERT INTO user_storage_usage (user_id, bytes_used, image_count, video_count, updated_at) " +
+                   "SELECT id, 0, 0, 0, now() FROM users WHERE id IN (:userIds) " +
+                   "ON CONFLICT (user_id) DO NOTHING",
+           nativeQuery = true)
+    int createMissing(@Param("userIds") Collection<Long> userIds);
+    
+    // 재집계 전에 사용량 행을 잠가 집계와 덮어쓰기 사이에 커밋되는 증분이 유실되지 않도록 함
+    // (증분 반영은 행 하나씩만 잠그므로 ID 순서로 잠그면 교착 상태가 생기지 않음)
+    @Query(value = "SELECT user_id FROM user_storage_usage WHERE user_id IN (:userIds) ORDER BY user_id FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockUsage(@Param("userIds") Collection<Long> userIds);
+    
+    // 잠금을 잡은 뒤 시작하는 문장이므로 그 전에 커밋된 업로드/삭제를 모두 포함한 합계로 덮어씀
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_storage_usage"))
+    @Modifying
+    @Query(value = "UPDATE user_storage_usage s SET " +
+                   "bytes_used = a.bytes_used, image_count = a.image_count, video_count = a.video_count, " +
+                   "updated_at = now() " +
+                   "FROM (SELECT u.id AS user_id, COALESCE(SUM(f.size), 0) AS bytes_used, " +
+                   "COUNT(f.id) FILTER (WHERE f.type = 'IMAGE') AS image_count, " +
+                   "COUNT(f.id) FILTER (WHERE f.type = 'VIDEO') AS video_count " +
+                   "FROM users u LEFT JOIN files f ON f.user_id = u.id " +
+                   "WHERE u.id IN (:userIds) GROUP BY u.id) a " +
+                   "WHERE s.user_id = a.user_id",
+           nativeQuery = true)
+    int reconcileUsers(@Param("userIds") Collection<Long> userIds);
+}
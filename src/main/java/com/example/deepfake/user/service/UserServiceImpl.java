@@ -17,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements UserService {
     
     private final UserRepository userRepository;
+    private final UserStorageService userStorageService;
     
     @Override
     public UserDto getCurrentUser(Long userId) {
@@ -29,6 +30,7 @@ public class UserServiceImpl implements UserService {
                 .name(user.getName())
                 .createdAt(user.getCreatedAt())
                 .updatedAt(user.getUpdatedAt())
+                .storage(userStorageService.getUsage(userId))
                 .build();
     }
 }
@@ -0,0 +1,10 @@
+package com.example.deepfake.user.service;
+
+public interface UserStatusService {
+    
+    boolean isEnabled();
+    
+    boolean isActive(Long userId);
+    
+    void evict(Long userId);
+}
@@ -0,0 +1,67 @@
+package com.example.deepfake.user.service;
+
+import com.example.deepfake.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+@Service
+@Slf4j
+public class UserStatusServiceImpl implements UserStatusService {
+    
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    
+    // 사용자 ID -> 활성 여부. 크기와 TTL이 제한된 캐시이므로 무효화가 누락되어도 TTL 이내에 반영됨
+    private final Cache<Long, Boolean> statusCache;
+    
+    public UserStatusServiceImpl(UserRepository userRepository,
+                                 @Value("${security.auth.user-status-check.enabled:false}") boolean enabled,
+                                 @Value("${security.auth.user-status-check.ttl:60s}") Duration ttl,
+                                 @Value("${security.auth.user-status-check.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.statusCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    @Override
+    public boolean isActive(Long userId) {
+        if (!enabled) {
+            return true;
+        }
+        return statusCache.get(userId, userRepository::existsById);
+    }
+    
+    @Override
+    public void evict(Long userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        statusCache.invalidate(userId);
+        
+        // 커밋 전에 다른 요청이 이전 상태를 다시 적재할 수 있으므로 커밋 후 한 번 더 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    statusCache.invalidate(userId);
+                }
+            });
+        }
+        log.debug("사용자 상태 캐시 무효화: {}", userId);
+    }
+}
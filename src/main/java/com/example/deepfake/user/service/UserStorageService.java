@@ -0,0 +1,16 @@
+package com.example.deepfake.user.service;
+
+import com.example.deepfake.user.dto.StorageUsageDto;
+
+public interface UserStorageService {
+    
+    StorageUsageDto getUsage(Long userId);
+    
+    void checkQuota(Long userId, long incomingBytes, int incomingFiles);
+    
+    void recordUploads(Long userId, long totalSize, long imageCount, long videoCount);
+    
+    void recordDeletions(Long userId, long totalSize, long imageCount, long videoCount);
+    
+    void reconcileUsage();
+}
@@ -0,0 +1,123 @@
+package com.example.deepfake.user.service;
+
+import com.example.deepfake.common.exception.QuotaExceededException;
+import com.example.deepfake.user.dto.StorageUsageDto;
+import com.example.deepfake.user.entity.UserStorageUsage;
+import com.example.deepfake.user.repository.UserStorageUsageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class UserStorageServiceImpl implements UserStorageService {
+    
+    private final UserStorageUsageRepository usageRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    // 0 이하이면 한도 없음
+    @Value("${user.quota.max-bytes:1073741824}")
+    private long maxBytes;
+    
+    @Value("${user.quota.max-files:1000}")
+    private long maxFiles;
+    
+    // 재집계 한 트랜잭션에서 잠그는 사용자 수 (잠금 시간과 증분 반영 대기 시간 제한)
+    @Value("${user.quota.reconcile-batch-size:200}")
+    private int reconcileBatchSize;
+    
+    public UserStorageServiceImpl(UserStorageUsageRepository usageRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.usageRepository = usageRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @Override
+    public StorageUsageDto getUsage(Long userId) {
+        UserStorageUsage usage = findUsage(userId);
+        
+        return StorageUsageDto.builder()
+                .bytesUsed(usage.getBytesUsed())
+                .imageCount(usage.getImageCount())
+                .videoCount(usage.getVideoCount())
+                .quotaBytes(maxBytes > 0 ? maxBytes : null)
+                .quotaFiles(maxFiles > 0 ? maxFiles : null)
+                .build();
+    }
+    
+    @Override
+    public void checkQuota(Long userId, long incomingBytes, int incomingFiles) {
+        if (maxBytes <= 0 && maxFiles <= 0) {
+            return;
+        }
+        
+        // 사용량 카운터 행 단건 조회로 O(1) 검사
+        UserStorageUsage usage = findUsage(userId);
+        
+        if (maxBytes > 0 && usage.getBytesUsed() + incomingBytes > maxBytes) {
+            log.warn("저장 용량 한도 초과: 사용자 {}, 사용 중 {}, 요청 {}, 한도 {}",
+                    userId, usage.getBytesUsed(), incomingBytes, maxBytes);
+            throw new QuotaExceededException("저장 용량 한도를 초과했습니다 (한도: " + maxBytes + " bytes)");
+        }
+        if (maxFiles > 0 && usage.getFileCount() + incomingFiles > maxFiles) {
+            log.warn("파일 개수 한도 초과: 사용자 {}, 보유 {}, 요청 {}, 한도 {}",
+                    userId, usage.getFileCount(), incomingFiles, maxFiles);
+            throw new QuotaExceededException("파일 개수 한도를 초과했습니다 (한도: " + maxFiles + "개)");
+        }
+    }
+    
+    @Override
+    @Transactional
+    public void recordUploads(Long userId, long totalSize, long imageCount, long videoCount) {
+        usageRepository.applyDelta(userId, totalSize, imageCount, videoCount);
+    }
+    
+    @Override
+    @Transactional
+    public void recordDeletions(Long userId, long totalSize, long imageCount, long videoCount) {
+        usageRepository.applyDelta(userId, -totalSize, -imageCount, -videoCount);
+    }
+    
+    // 사용자 ID 순으로 작은 배치마다 별도 트랜잭션에서 사용량 행을 잠근 뒤 다시 집계
+    // (갤러리 통계 재집계와 같은 방식, 전체 사용자 행을 한 문장 동안 잠그지 않음)
+    // 클래스 기본값(읽기 전용 트랜잭션)에 배치 트랜잭션이 합류하지 않도록 트랜잭션 없이 실행
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(fixedDelayString = "${user.quota.reconcile-interval:3600000}")
+    public void reconcileUsage() {
+        long afterId = 0;
+        int reconciled = 0;
+        while (true) {
+            List<Long> userIds = usageRepository.findUserIdsAfter(afterId, reconcileBatchSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            Integer updated = transactionTemplate.execute(status -> {
+                usageRepository.createMissing(userIds);
+                usageRepository.lockUsage(userIds);
+                return usageRepository.reconcileUsers(userIds);
+            });
+            reconciled += updated == null ? 0 : updated;
+            afterId = userIds.get(userIds.size() - 1);
+        }
+        log.info("사용자 저장 용량 재집계 완료: {} 명", reconciled);
+    }
+    
+    private UserStorageUsage findUsage(Long userId) {
+        return usageRepository.findById(userId)
+                .orElseGet(() -> UserStorageUsage.builder()
+                        .userId(userId)
+                        .bytesUsed(0L)
+                        .imageCount(0L)
+                        .videoCount(0L)
+                        .build());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.deepfake.common.config;
+
+import com.example.deepfake.file.dto.FileBulkUpdateRequest;
+import com.example.deepfake.file.entity.File;
+import com.example.deepfake.file.repository.FileBulkRepository;
+import com.example.deepfake.file.repository.FileRepository;
+import com.example.deepfake.support.PersistenceBudget;
+import com.example.deepfake.support.PersistenceBudget.Measurement;
+import com.example.deepfake.support.PersistenceBudgetTest;
+import com.example.deepfake.user.entity.User;
+import com.example.deepfake.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 사용자(자연 키 포함)/파일 2차 캐시 적중과 JDBC 일괄 수정 후 무효화 확인
+@PersistenceBudgetTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.cache.use_second_level_cache=true")
+class SecondLevelCacheTest {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private FileRepository fileRepository;
+
+	@Autowired
+	private FileBulkRepository fileBulkRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private User user;
+	private File file;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(User.builder()
+				.email("cache-owner@example.com")
+				.password("{noop}password")
+				.name("캐시")
+				.build());
+		file = fileRepository.save(File.builder()
+				.name("deepfake/cache")
+				.title("원래 제목")
+				.originalName("cache.jpg")
+				.url("https://res.cloudinary.com/test/image/upload/cache.jpg")
+				.size(1024L)
+				.type(File.FileType.IMAGE)
+				.mimeType("image/jpeg")
+				.user(user)
+				.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		fileRepository.deleteAllInBatch();
+		userRepository.findAll().stream()
+				.filter(saved -> saved.getEmail().startsWith("cache-"))
+				.forEach(userRepository::delete);
+	}
+
+	@Test
+	void userLookupByEmailIsServedFromCache() {
+		userRepository.findByEmail(user.getEmail());
+
+		Measurement<Optional<User>> measurement =
+				PersistenceBudget.measure(() -> userRepository.findByEmail(user.getEmail()));
+
+		assertThat(measurement.result()).map(User::getId).contains(user.getId());
+		assertThat(measurement.statements()).isZero();
+	}
+
+	@Test
+	void bulkTitleUpdateEvictsCachedFile() {
+		fileRepository.findById(file.getId());
+		assertThat(PersistenceBudget.measure(() -> fileRepository.findById(file.getId())).statements()).isZero();
+
+		FileBulkUpdateRequest.Item item = new FileBulkUpdateRequest.Item();
+		item.setId(file.getId());
+		item.setTitle("바뀐 제목");
+		transactionTemplate.executeWithoutResult(status ->
+				fileBulkRepository.updateTitles(List.of(item), user.getId(), LocalDateTime.now()));
+
+		assertThat(fileRepository.findById(file.getId())).map(File::getTitle).contains("바뀐 제목");
+	}
+}
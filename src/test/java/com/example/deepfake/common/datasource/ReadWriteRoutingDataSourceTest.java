@@ -0,0 +1,94 @@
+package com.example.deepfake.common.datasource;
+
+import com.example.deepfake.common.security.JwtPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 내장 PostgreSQL 두 개를 기본 DB/복제본 대체로 띄워 트랜잭션 종류별 라우팅과 장애 시 전환 확인
+class ReadWriteRoutingDataSourceTest {
+
+	private EmbeddedPostgres primary;
+	private EmbeddedPostgres replica;
+	private ReplicaHealthMonitor replicaHealthMonitor;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate writeTransaction;
+	private TransactionTemplate readOnlyTransaction;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		primary = EmbeddedPostgres.start();
+		replica = EmbeddedPostgres.start();
+		replicaHealthMonitor = new ReplicaHealthMonitor(
+				List.of(new ReplicaHealthMonitor.Replica("replica-0", replica.getPostgresDatabase())),
+				Duration.ofSeconds(5), Duration.ofSeconds(1), new SimpleMeterRegistry());
+		replicaHealthMonitor.checkAll();
+
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+				primary.getPostgresDatabase(), replicaHealthMonitor, new ReadYourWritesTracker(Duration.ofMinutes(1), 100)));
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		writeTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		SecurityContextHolder.clearContext();
+		replicaHealthMonitor.close();
+		primary.close();
+		replica.close();
+	}
+
+	@Test
+	void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+		assertThat(readOnlyTransaction.execute(status -> serverPort())).isEqualTo(replica.getPort());
+		assertThat(writeTransaction.execute(status -> serverPort())).isEqualTo(primary.getPort());
+		// 트랜잭션 밖 접근은 항상 기본 DB
+		assertThat(serverPort()).isEqualTo(primary.getPort());
+	}
+
+	@Test
+	void userReadsFromPrimaryAfterOwnWrite() {
+		authenticate(1L);
+		writeTransaction.executeWithoutResult(status -> serverPort());
+		assertThat(readOnlyTransaction.execute(status -> serverPort())).isEqualTo(primary.getPort());
+
+		authenticate(2L);
+		assertThat(readOnlyTransaction.execute(status -> serverPort())).isEqualTo(replica.getPort());
+	}
+
+	@Test
+	void readsFallBackToPrimaryWhenReplicaIsDown() throws IOException {
+		replica.close();
+
+		assertThat(readOnlyTransaction.execute(status -> serverPort())).isEqualTo(primary.getPort());
+		replicaHealthMonitor.checkAll();
+		assertThat(replicaHealthMonitor.nextAvailable()).isEmpty();
+	}
+
+	private int serverPort() {
+		return jdbcTemplate.queryForObject("SELECT inet_server_port()", Integer.class);
+	}
+
+	private static void authenticate(Long userId) {
+		JwtPrincipal principal = new JwtPrincipal(userId, "user" + userId + "@example.com", "사용자");
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+	}
+}
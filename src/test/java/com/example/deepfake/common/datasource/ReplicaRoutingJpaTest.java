@@ -0,0 +1,147 @@
+package com.example.deepfake.common.datasource;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// JpaTransactionManager/HibernateJpaDialect 경로로 복제본 라우팅과 2차 캐시를 함께 사용할 때의 동작 확인
+// 내장 PostgreSQL 두 개 중 복제본 쪽에는 이전 값을 넣어 지연된 복제본을 흉내 냄
+class ReplicaRoutingJpaTest {
+
+	private EmbeddedPostgres primary;
+	private EmbeddedPostgres replica;
+	private ReplicaHealthMonitor replicaHealthMonitor;
+	private CacheManager cacheManager;
+	private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+	private EntityManager entityManager;
+	private TransactionTemplate writeTransaction;
+	private TransactionTemplate readOnlyTransaction;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		primary = EmbeddedPostgres.start();
+		replica = EmbeddedPostgres.start();
+		replicaHealthMonitor = new ReplicaHealthMonitor(
+				List.of(new ReplicaHealthMonitor.Replica("replica-0", replica.getPostgresDatabase())),
+				Duration.ofSeconds(5), Duration.ofSeconds(1), new SimpleMeterRegistry());
+		replicaHealthMonitor.checkAll();
+		ReadYourWritesTracker readYourWritesTracker = new ReadYourWritesTracker(Duration.ofMinutes(1), 100);
+
+		cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+				.getCacheManager(URI.create("replica-routing-" + UUID.randomUUID()), getClass().getClassLoader());
+
+		entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+		entityManagerFactoryBean.setDataSource(new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+				primary.getPostgresDatabase(), replicaHealthMonitor, readYourWritesTracker)));
+		entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		entityManagerFactoryBean.setJpaDialect(new ReplicaAwareJpaDialect(replicaHealthMonitor, readYourWritesTracker));
+		entityManagerFactoryBean.setManagedTypes(PersistenceManagedTypes.of(CachedItem.class.getName()));
+		entityManagerFactoryBean.setJpaPropertyMap(Map.of(
+				AvailableSettings.HBM2DDL_AUTO, "create",
+				AvailableSettings.USE_SECOND_LEVEL_CACHE, true,
+				AvailableSettings.CACHE_REGION_FACTORY, "jcache",
+				ConfigSettings.CACHE_MANAGER, cacheManager,
+				ConfigSettings.MISSING_CACHE_STRATEGY, "create"));
+		entityManagerFactoryBean.afterPropertiesSet();
+		EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+
+		JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+		entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+		writeTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+
+		// 기본 DB에는 최신 값, 복제본에는 아직 반영되지 않은 이전 값
+		new JdbcTemplate(primary.getPostgresDatabase()).update("INSERT INTO cached_item (id, title) VALUES (1, '최신')");
+		JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(replica.getPostgresDatabase());
+		replicaJdbcTemplate.execute("CREATE TABLE cached_item (id BIGINT PRIMARY KEY, title VARCHAR(255))");
+		replicaJdbcTemplate.update("INSERT INTO cached_item (id, title) VALUES (1, '이전')");
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		entityManagerFactoryBean.destroy();
+		cacheManager.close();
+		replicaHealthMonitor.close();
+		primary.close();
+		replica.close();
+	}
+
+	@Test
+	void jpaTransactionsAreRoutedByReadOnlyFlag() {
+		assertThat(readOnlyTransaction.execute(status -> serverPort())).isEqualTo(replica.getPort());
+		assertThat(writeTransaction.execute(status -> serverPort())).isEqualTo(primary.getPort());
+	}
+
+	@Test
+	void replicaReadsDoNotPopulateSecondLevelCache() {
+		assertThat(readOnlyTransaction.execute(status -> findTitle())).isEqualTo("이전");
+		assertThat(entityManagerFactoryBean.getObject().getCache().contains(CachedItem.class, 1L)).isFalse();
+
+		// 복제본에서 읽은 값이 캐시에 남았다면 기본 DB로 가는 쓰기 트랜잭션도 이전 값을 보게 됨
+		assertThat(writeTransaction.execute(status -> findTitle())).isEqualTo("최신");
+		assertThat(entityManagerFactoryBean.getObject().getCache().contains(CachedItem.class, 1L)).isTrue();
+
+		// 기본 DB에서 채운 캐시는 복제본으로 가는 읽기에서도 사용
+		assertThat(readOnlyTransaction.execute(status -> findTitle())).isEqualTo("최신");
+	}
+
+	private int serverPort() {
+		return ((Number) entityManager.createNativeQuery("SELECT inet_server_port()").getSingleResult()).intValue();
+	}
+
+	private String findTitle() {
+		return entityManager.find(CachedItem.class, 1L).getTitle();
+	}
+
+	@Entity
+	@Table(name = "cached_item")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "cached-items")
+	static class CachedItem {
+
+		@Id
+		private Long id;
+
+		private String title;
+
+		protected CachedItem() {
+		}
+
+		String getTitle() {
+			return title;
+		}
+	}
+}
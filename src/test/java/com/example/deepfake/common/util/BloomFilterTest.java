@@ -0,0 +1,50 @@
+package com.example.deepfake.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+	@Test
+	void neverReportsFalseNegatives() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		String[] keys = new String[10_000];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = UUID.randomUUID().toString();
+			filter.put(keys[i]);
+		}
+
+		for (String key : keys) {
+			assertThat(filter.mightContain(key)).isTrue();
+		}
+	}
+
+	@Test
+	void falsePositiveRateStaysNearConfiguredProbability() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put(UUID.randomUUID().toString());
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (filter.mightContain(UUID.randomUUID().toString())) {
+				falsePositives++;
+			}
+		}
+
+		assertThat(falsePositives).isLessThan(2_000);
+	}
+
+	@Test
+	void rejectsInvalidParameters() {
+		assertThatThrownBy(() -> new BloomFilter(0, 0.01))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new BloomFilter(100, 1.0))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,93 @@
+package com.example.deepfake.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HyperLogLogTest {
+
+	@Test
+	void estimatesDistinctCountWithinTwoPercent() {
+		HyperLogLog sketch = new HyperLogLog();
+		for (long value = 1; value <= 100_000; value++) {
+			sketch.offer(value);
+			sketch.offer(value);
+		}
+
+		assertThat(sketch.estimate()).isBetween(98_000L, 102_000L);
+	}
+
+	@Test
+	void mergeEstimatesUnion() {
+		HyperLogLog first = new HyperLogLog();
+		HyperLogLog second = new HyperLogLog();
+		for (long value = 0; value < 50_000; value++) {
+			first.offer(value);
+			second.offer(value + 25_000);
+		}
+
+		assertThat(first.merge(second).estimate()).isBetween(73_500L, 76_500L);
+	}
+
+	@Test
+	void serializedFormRoundTrips() {
+		HyperLogLog sketch = new HyperLogLog();
+		for (long value = 0; value < 10_000; value++) {
+			sketch.offer(value * 31);
+		}
+
+		byte[] bytes = sketch.toBytes();
+		HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+		assertThat(bytes).hasSize(1 + (1 << HyperLogLog.DEFAULT_PRECISION) * 6 / 8);
+		assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+		assertThat(restored.toBytes()).isEqualTo(bytes);
+	}
+
+	@Test
+	void smallSketchStaysSparseAndCompact() {
+		HyperLogLog sketch = new HyperLogLog();
+		for (long value = 0; value < 3; value++) {
+			sketch.offer(value);
+			sketch.offer(value);
+		}
+
+		byte[] bytes = sketch.toBytes();
+		HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+		assertThat(sketch.isSparse()).isTrue();
+		assertThat(bytes).hasSize(1 + 3 * Integer.BYTES);
+		assertThat(sketch.estimate()).isEqualTo(3);
+		assertThat(restored.isSparse()).isTrue();
+		assertThat(restored.toBytes()).isEqualTo(bytes);
+	}
+
+	@Test
+	void sparseSketchPromotesToDenseWithSameEstimate() {
+		HyperLogLog sparse = new HyperLogLog();
+		HyperLogLog dense = new HyperLogLog();
+		for (long value = 0; value < 1_000; value++) {
+			sparse.offer(value);
+		}
+		for (long value = 1_000; value < 20_000; value++) {
+			dense.offer(value);
+		}
+		long sparseEstimate = sparse.estimate();
+
+		HyperLogLog merged = sparse.copy().merge(dense);
+		HyperLogLog mergedOtherWay = dense.copy().merge(sparse);
+
+		assertThat(sparse.isSparse()).isTrue();
+		assertThat(sparseEstimate).isBetween(980L, 1_020L);
+		assertThat(dense.isSparse()).isFalse();
+		assertThat(merged.isSparse()).isFalse();
+		assertThat(merged.estimate()).isEqualTo(mergedOtherWay.estimate()).isBetween(19_600L, 20_400L);
+	}
+
+	@Test
+	void rejectsMergeOfDifferentPrecision() {
+		assertThatThrownBy(() -> new HyperLogLog(12).merge(new HyperLogLog(14)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,45 @@
+package com.example.deepfake.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	void allowsBurstUpToCapacityThenRejects() {
+		TokenBucket bucket = new TokenBucket(3, 1, SECOND, 0);
+
+		assertThat(bucket.tryConsume(0).remaining()).isEqualTo(2);
+		assertThat(bucket.tryConsume(0).remaining()).isEqualTo(1);
+		assertThat(bucket.tryConsume(0).remaining()).isZero();
+
+		TokenBucket.Result rejected = bucket.tryConsume(0);
+		assertThat(rejected.allowed()).isFalse();
+		assertThat(rejected.resetNanos()).isEqualTo(SECOND);
+	}
+
+	@Test
+	void refillsOverTimeWithoutExceedingCapacity() {
+		TokenBucket bucket = new TokenBucket(2, 1, SECOND, 0);
+		bucket.tryConsume(0);
+		bucket.tryConsume(0);
+
+		assertThat(bucket.tryConsume(SECOND).allowed()).isTrue();
+		assertThat(bucket.tryConsume(SECOND).allowed()).isFalse();
+		assertThat(bucket.tryConsume(100 * SECOND).remaining()).isEqualTo(1);
+	}
+
+	@Test
+	void reportsIdleOnlyWhenFullAndUnused() {
+		TokenBucket bucket = new TokenBucket(2, 1, SECOND, 0);
+		bucket.tryConsume(0);
+
+		assertThat(bucket.isIdle(SECOND / 2, 0)).isFalse();
+		assertThat(bucket.isIdle(SECOND, SECOND)).isTrue();
+	}
+}
@@ -0,0 +1,191 @@
+package com.example.deepfake.file.service;
+
+import com.example.deepfake.file.dto.FileBatchResponse;
+import com.example.deepfake.file.dto.FileBulkResponse;
+import com.example.deepfake.file.dto.PublicFileListResponse;
+import com.example.deepfake.file.entity.File;
+import com.example.deepfake.file.repository.FileRepository;
+import com.example.deepfake.file.repository.StorageDeletionRepository;
+import com.example.deepfake.support.PersistenceBudget;
+import com.example.deepfake.support.PersistenceBudget.Measurement;
+import com.example.deepfake.support.PersistenceBudgetTest;
+import com.example.deepfake.user.entity.User;
+import com.example.deepfake.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록/검색/상세/일괄 조회의 SQL 문 수를 고정해 N+1 회귀를 빌드에서 잡아냄
+// 일괄 삭제가 기록한 삭제 대기열을 스케줄러가 실제 저장소로 보내지 않도록 디스패치 주기를 늘림
+@PersistenceBudgetTest
+@TestPropertySource(properties = "storage.deletion.dispatch-interval=3600000")
+class FileServiceQueryCountTest {
+
+	private static final int USERS = 5;
+	private static final int FILES_PER_USER = 8;
+	private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+	// 20건 페이지 변환 + 조회에 허용하는 할당량 (쿼리 계획 캐시 워밍업 이후)
+	private static final long PAGE_ALLOCATION_BUDGET_BYTES = 4L * 1024 * 1024;
+
+	@Autowired
+	private FileService fileService;
+
+	@Autowired
+	private FileRepository fileRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StorageDeletionRepository storageDeletionRepository;
+
+	private final List<Long> fileIds = new ArrayList<>();
+	private Long ownerId;
+
+	@BeforeEach
+	void setUp() {
+		for (int u = 0; u < USERS; u++) {
+			User user = userRepository.save(User.builder()
+					.email("budget-" + u + "@example.com")
+					.password("{noop}password")
+					.name("업로더" + u)
+					.build());
+			ownerId = user.getId();
+			for (int f = 0; f < FILES_PER_USER; f++) {
+				File file = fileRepository.save(File.builder()
+						.name("deepfake/budget-" + u + "-" + f)
+						.title("풍경 " + u + "-" + f)
+						.originalName("landscape-" + f + ".jpg")
+						.url("https://res.cloudinary.com/test/image/upload/budget-" + u + "-" + f + ".jpg")
+						.size(1024L)
+						.type(f % 4 == 0 ? File.FileType.VIDEO : File.FileType.IMAGE)
+						.mimeType(f % 4 == 0 ? "video/mp4" : "image/jpeg")
+						.user(user)
+						.build());
+				fileIds.add(file.getId());
+			}
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		fileRepository.deleteAllInBatch();
+		storageDeletionRepository.deleteAllInBatch();
+		userRepository.findAll().stream()
+				.filter(user -> user.getEmail().startsWith("budget-"))
+				.forEach(userRepository::delete);
+		fileIds.clear();
+	}
+
+	@Test
+	void publicListingLoadsPageAndCountOnly() {
+		Measurement<PublicFileListResponse> measurement =
+				PersistenceBudget.measure(() -> fileService.getPublicFiles("all", FIRST_PAGE));
+
+		assertThat(measurement.result().getData().getFiles()).hasSize(20);
+		assertThat(measurement.selects()).isEqualTo(2);
+		assertThat(measurement.statements()).isEqualTo(2);
+	}
+
+	@Test
+	void publicListingByTypeLoadsPageAndCountOnly() {
+		Measurement<PublicFileListResponse> measurement =
+				PersistenceBudget.measure(() -> fileService.getPublicFiles("image", FIRST_PAGE));
+
+		assertThat(measurement.result().getData().getFiles()).isNotEmpty();
+		assertThat(measurement.statements()).isEqualTo(2);
+	}
+
+	@Test
+	void searchLoadsPageAndCountOnly() {
+		Measurement<PublicFileListResponse> measurement =
+				PersistenceBudget.measure(() -> fileService.searchFiles("풍경", "all", FIRST_PAGE));
+
+		assertThat(measurement.result().getData().getFiles()).hasSize(20);
+		assertThat(measurement.statements()).isEqualTo(2);
+	}
+
+	@Test
+	void myFilesLoadsPageAndCountOnly() {
+		Measurement<?> measurement =
+				PersistenceBudget.measure(() -> fileService.getMyFiles(ownerId, "all", FIRST_PAGE));
+
+		assertThat(measurement.statements()).isEqualTo(2);
+	}
+
+	@Test
+	void detailLoadsFileWithUploaderAndViewerSketch() {
+		Long fileId = fileIds.get(0);
+
+		Measurement<?> measurement = PersistenceBudget.measure(() -> fileService.getFileDetail(fileId, ownerId));
+
+		// 파일+업로더 1건, 고유 조회자 스케치 1건
+		assertThat(measurement.statements()).isEqualTo(2);
+	}
+
+	@Test
+	void batchLookupUsesSingleQuery() {
+		Measurement<FileBatchResponse> measurement =
+				PersistenceBudget.measure(() -> fileService.getFilesByIds(fileIds.subList(0, 30)));
+
+		assertThat(measurement.result().getData().getFiles()).hasSize(30);
+		assertThat(measurement.statements()).isEqualTo(1);
+	}
+
+	@Test
+	void bulkDeleteStatementCountDoesNotGrowWithFileCount() {
+		// 마지막 사용자(ownerId)의 파일: 인덱스 0, 4가 동영상
+		List<Long> ownerFileIds = fileIds.subList(fileIds.size() - FILES_PER_USER, fileIds.size());
+		Long otherUsersFileId = fileIds.get(0);
+
+		Measurement<FileBulkResponse> small = PersistenceBudget.measure(() ->
+				fileService.deleteFiles(List.of(ownerFileIds.get(0), ownerFileIds.get(1), otherUsersFileId), ownerId));
+		Measurement<FileBulkResponse> large = PersistenceBudget.measure(() ->
+				fileService.deleteFiles(new ArrayList<>(ownerFileIds.subList(4, 8)), ownerId));
+
+		assertThat(small.result().getData().getSucceeded()).isEqualTo(2);
+		assertThat(small.result().getData().getResults())
+				.extracting(FileBulkResponse.FileBulkResult::getOutcome)
+				.containsExactly(FileBulkResponse.Outcome.DELETED, FileBulkResponse.Outcome.DELETED,
+						FileBulkResponse.Outcome.NOT_FOUND);
+		assertThat(large.result().getData().getSucceeded()).isEqualTo(4);
+		assertThat(large.statements()).isEqualTo(small.statements());
+		assertThat(fileRepository.existsById(otherUsersFileId)).isTrue();
+	}
+
+	@Test
+	void repeatedBulkDeleteOnlyCountsRowsItActuallyDeleted() {
+		List<Long> ownerFileIds = fileIds.subList(fileIds.size() - FILES_PER_USER, fileIds.size());
+		List<Long> requestedIds = List.of(ownerFileIds.get(0), ownerFileIds.get(1));
+
+		FileBulkResponse first = fileService.deleteFiles(requestedIds, ownerId);
+		FileBulkResponse second = fileService.deleteFiles(requestedIds, ownerId);
+
+		assertThat(first.getData().getSucceeded()).isEqualTo(2);
+		assertThat(second.getData().getSucceeded()).isZero();
+		assertThat(second.getData().getResults())
+				.extracting(FileBulkResponse.FileBulkResult::getOutcome)
+				.containsOnly(FileBulkResponse.Outcome.NOT_FOUND);
+	}
+
+	@Test
+	void publicListingStaysWithinAllocationBudget() {
+		// 쿼리 계획/메타데이터 캐시 워밍업
+		fileService.getPublicFiles("all", FIRST_PAGE);
+
+		Measurement<PublicFileListResponse> measurement =
+				PersistenceBudget.measure(() -> fileService.getPublicFiles("all", FIRST_PAGE));
+
+		assertThat(measurement.allocatedBytes()).isLessThan(PAGE_ALLOCATION_BUDGET_BYTES);
+	}
+}
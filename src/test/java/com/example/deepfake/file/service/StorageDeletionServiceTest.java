@@ -0,0 +1,98 @@
+package com.example.deepfake.file.service;
+
+import com.example.deepfake.common.exception.StorageException;
+import com.example.deepfake.common.exception.StorageRateLimitedException;
+import com.example.deepfake.file.entity.StorageDeletion;
+import com.example.deepfake.file.repository.StorageDeletionRepository;
+import com.example.deepfake.file.storage.StorageClient;
+import com.example.deepfake.support.PersistenceBudgetTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+// 삭제 대기열 선점/일괄 삭제/재시도 예약이 실제 PostgreSQL 쿼리로 동작하는지 확인
+@PersistenceBudgetTest
+// 한도 초과 후 중단 시간은 0으로 두어 테스트 순서와 관계없이 다음 dispatch가 동작하게 함
+@TestPropertySource(properties = {
+		"storage.deletion.dispatch-interval=3600000",
+		"storage.deletion.rate-limit-backoff=0s"
+})
+class StorageDeletionServiceTest {
+
+	@Autowired
+	private StorageDeletionService storageDeletionService;
+
+	@Autowired
+	private StorageDeletionRepository storageDeletionRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@MockBean
+	private StorageClient storageClient;
+
+	@AfterEach
+	void tearDown() {
+		storageDeletionRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void dispatchRemovesCompletedDeletionsAndSchedulesRetryForFailures() {
+		transactionTemplate.executeWithoutResult(status -> {
+			storageDeletionService.enqueue("deepfake/a", "image");
+			storageDeletionService.enqueue("deepfake/b", "image");
+			storageDeletionService.enqueue("deepfake/c", "video");
+		});
+		when(storageClient.deleteAll(anyList(), eq("image")))
+				.thenReturn(CompletableFuture.completedFuture(Map.of("deepfake/a", "deleted", "deepfake/b", "not_found")));
+		when(storageClient.deleteAll(anyList(), eq("video")))
+				.thenReturn(CompletableFuture.failedFuture(new StorageException("연결 실패")));
+
+		int claimed = storageDeletionService.dispatch();
+
+		assertThat(claimed).isEqualTo(3);
+		List<StorageDeletion> remaining = storageDeletionRepository.findAll();
+		assertThat(remaining).hasSize(1);
+		StorageDeletion failed = remaining.get(0);
+		assertThat(failed.getPublicId()).isEqualTo("deepfake/c");
+		assertThat(failed.getAttempts()).isEqualTo(1);
+		assertThat(failed.getLastError()).contains("연결 실패");
+		assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+		// 재시도 시각 전에는 다시 선점되지 않음
+		assertThat(storageDeletionService.dispatch()).isZero();
+	}
+
+	@Test
+	void dispatchReleasesRateLimitedDeletionsWithoutCountingAttempts() {
+		transactionTemplate.executeWithoutResult(status -> {
+			storageDeletionService.enqueue("deepfake/d", "image");
+			storageDeletionService.enqueue("deepfake/e", "image");
+		});
+		when(storageClient.deleteAll(anyList(), eq("image")))
+				.thenReturn(CompletableFuture.failedFuture(new StorageRateLimitedException("HTTP 420")));
+
+		int claimed = storageDeletionService.dispatch();
+
+		assertThat(claimed).isEqualTo(2);
+		List<StorageDeletion> remaining = storageDeletionRepository.findAll();
+		assertThat(remaining).hasSize(2);
+		assertThat(remaining).allSatisfy(deletion -> {
+			assertThat(deletion.getAttempts()).isZero();
+			assertThat(deletion.getLastError()).isNull();
+		});
+	}
+}
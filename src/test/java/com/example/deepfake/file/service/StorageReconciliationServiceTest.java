@@ -0,0 +1,176 @@
+package com.example.deepfake.file.service;
+
+import com.example.deepfake.file.dto.StorageReconciliationReport;
+import com.example.deepfake.file.entity.File;
+import com.example.deepfake.file.entity.StorageDeletion;
+import com.example.deepfake.file.entity.StorageReconciliationState;
+import com.example.deepfake.file.repository.FileRepository;
+import com.example.deepfake.file.repository.StorageDeletionRepository;
+import com.example.deepfake.file.repository.StorageReconciliationStateRepository;
+import com.example.deepfake.file.storage.StorageClient;
+import com.example.deepfake.file.storage.StorageListing;
+import com.example.deepfake.file.storage.StoredResource;
+import com.example.deepfake.support.PersistenceBudgetTest;
+import com.example.deepfake.user.entity.User;
+import com.example.deepfake.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 저장소 목록과 files 테이블의 양방향 대조 및 정리 동작 확인
+@PersistenceBudgetTest
+@TestPropertySource(properties = {
+		"storage.deletion.dispatch-interval=3600000",
+		"storage.reconcile.grace-period=0s",
+		"storage.reconcile.purge-orphan-assets=true",
+		"storage.reconcile.purge-missing-files=true"
+})
+class StorageReconciliationServiceTest {
+
+	@Autowired
+	private StorageReconciliationService storageReconciliationService;
+
+	@Autowired
+	private FileRepository fileRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private StorageDeletionRepository storageDeletionRepository;
+
+	@Autowired
+	private StorageReconciliationStateRepository stateRepository;
+
+	@MockBean
+	private StorageClient storageClient;
+
+	@AfterEach
+	void tearDown() {
+		fileRepository.deleteAllInBatch();
+		storageDeletionRepository.deleteAllInBatch();
+		stateRepository.deleteAllInBatch();
+		userRepository.findAll().stream()
+				.filter(user -> user.getEmail().startsWith("reconcile-"))
+				.forEach(userRepository::delete);
+	}
+
+	@Test
+	void reconcileQueuesOrphanAssetsAndRemovesRowsWithoutAssets() {
+		User user = userRepository.save(User.builder()
+				.email("reconcile-owner@example.com")
+				.password("{noop}password")
+				.name("정합성")
+				.build());
+		saveFile(user, "deepfake/kept");
+		File missing = saveFile(user, "deepfake/missing");
+
+		Instant old = Instant.now().minus(1, ChronoUnit.DAYS);
+		when(storageClient.list(eq("image"), eq("deepfake/"), any(), anyInt()))
+				.thenReturn(CompletableFuture.completedFuture(new StorageListing(List.of(
+						new StoredResource("deepfake/kept", "image", old),
+						new StoredResource("deepfake/orphan", "image", old),
+						// grace-period 이내(미래 시각)로 취급되는 리소스는 제외
+						new StoredResource("deepfake/uploading", "image", Instant.now().plus(1, ChronoUnit.HOURS))),
+						null)));
+		when(storageClient.list(eq("video"), anyString(), any(), anyInt()))
+				.thenReturn(CompletableFuture.completedFuture(new StorageListing(List.of(), null)));
+		when(storageClient.findExisting(anyList(), eq("image")))
+				.thenReturn(CompletableFuture.completedFuture(Set.of("deepfake/kept")));
+
+		StorageReconciliationReport report = storageReconciliationService.reconcile();
+
+		assertThat(report.isComplete()).isTrue();
+		assertThat(report.getScannedAssets()).isEqualTo(3);
+		assertThat(report.getOrphanAssets()).isEqualTo(1);
+		assertThat(report.getScannedFiles()).isEqualTo(2);
+		assertThat(report.getMissingAssets()).isEqualTo(1);
+		assertThat(storageDeletionRepository.findAll())
+				.extracting(StorageDeletion::getPublicId)
+				.containsExactly("deepfake/orphan");
+		assertThat(fileRepository.existsById(missing.getId())).isFalse();
+		assertThat(fileRepository.findExistingNames(List.of("deepfake/kept"))).containsExactly("deepfake/kept");
+		assertThat(stateRepository.findById(StorageReconciliationState.SINGLETON_ID))
+				.hasValueSatisfying(state -> {
+					assertThat(state.getPhase()).isEqualTo(StorageReconciliationState.Phase.IMAGE);
+					assertThat(state.getLeaseOwner()).isNull();
+				});
+	}
+
+	@Test
+	void reconcileResumesInProgressPhase() {
+		User user = userRepository.save(User.builder()
+				.email("reconcile-resume@example.com")
+				.password("{noop}password")
+				.name("정합성")
+				.build());
+		saveFile(user, "deepfake/resumed");
+		stateRepository.save(StorageReconciliationState.builder()
+				.id(StorageReconciliationState.SINGLETON_ID)
+				.phase(StorageReconciliationState.Phase.FILES)
+				.fileCursor(0L)
+				.updatedAt(LocalDateTime.now())
+				.build());
+		when(storageClient.findExisting(anyList(), eq("image")))
+				.thenReturn(CompletableFuture.completedFuture(Set.of("deepfake/resumed")));
+
+		StorageReconciliationReport report = storageReconciliationService.reconcile();
+
+		assertThat(report.isComplete()).isTrue();
+		assertThat(report.getScannedAssets()).isZero();
+		assertThat(report.getScannedFiles()).isEqualTo(1);
+		verify(storageClient, never()).list(anyString(), anyString(), any(), anyInt());
+	}
+
+	@Test
+	void reconcileSkipsWhileAnotherInstanceHoldsLease() {
+		stateRepository.save(StorageReconciliationState.builder()
+				.id(StorageReconciliationState.SINGLETON_ID)
+				.phase(StorageReconciliationState.Phase.IMAGE)
+				.fileCursor(0L)
+				.leaseOwner("other-instance")
+				.leaseExpiresAt(LocalDateTime.now().plusMinutes(10))
+				.updatedAt(LocalDateTime.now())
+				.build());
+
+		StorageReconciliationReport report = storageReconciliationService.reconcile();
+
+		assertThat(report.isSkipped()).isTrue();
+		verify(storageClient, never()).list(anyString(), anyString(), any(), anyInt());
+		assertThat(stateRepository.findById(StorageReconciliationState.SINGLETON_ID))
+				.map(StorageReconciliationState::getLeaseOwner)
+				.contains("other-instance");
+	}
+
+	private File saveFile(User user, String publicId) {
+		return fileRepository.save(File.builder()
+				.name(publicId)
+				.title("정합성 " + publicId)
+				.originalName("reconcile.jpg")
+				.url("https://res.cloudinary.com/test/image/upload/" + publicId + ".jpg")
+				.size(1024L)
+				.type(File.FileType.IMAGE)
+				.mimeType("image/jpeg")
+				.user(user)
+				.build());
+	}
+}
@@ -0,0 +1,25 @@
+package com.example.deepfake.file.storage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 업로드 multipart 헤더에 들어가는 클라이언트 값(파일명/Content-Type) 정리 확인
+class CloudinaryStorageClientTest {
+
+	@Test
+	void headerValueRemovesCharactersThatCouldInjectHeadersOrParts() {
+		String filename = "evil.jpg\"\r\nContent-Type: text/html\r\n\r\n--boundary\\\u0085\u2028.png";
+
+		assertThat(CloudinaryStorageClient.headerValue(filename, "file"))
+				.isEqualTo("evil.jpgContent-Type: text/html--boundary.png")
+				.doesNotContain("\r", "\n", "\"", "\\");
+	}
+
+	@Test
+	void headerValueFallsBackToDefaultWhenNothingIsLeft() {
+		assertThat(CloudinaryStorageClient.headerValue(null, "file")).isEqualTo("file");
+		assertThat(CloudinaryStorageClient.headerValue("\r\n\"", "file")).isEqualTo("file");
+		assertThat(CloudinaryStorageClient.headerValue("사진 1.jpg", "file")).isEqualTo("사진 1.jpg");
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.deepfake.gallery.service;
+
+import com.example.deepfake.gallery.dto.GalleryStatsResponse;
+import com.example.deepfake.support.PersistenceBudget;
+import com.example.deepfake.support.PersistenceBudget.Measurement;
+import com.example.deepfake.support.PersistenceBudgetTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@PersistenceBudgetTest
+class GalleryServiceQueryCountTest {
+
+	@Autowired
+	private GalleryService galleryService;
+
+	@BeforeEach
+	void setUp() {
+		// 카운터 행이 생성된 상태에서 측정
+		galleryService.reconcileStats();
+	}
+
+	@Test
+	void statsReadCounterRowAndUploaderSketchOnly() {
+		Measurement<GalleryStatsResponse> measurement = PersistenceBudget.measure(galleryService::getGalleryStats);
+
+		assertThat(measurement.result().getSuccess()).isTrue();
+		// 카운터 행 1건, 오늘 업로더 스케치 1건 (파일 테이블 집계 없음)
+		assertThat(measurement.statements()).isEqualTo(2);
+	}
+
+	@Test
+	void recordingUploadsIsASingleUpdate() {
+		Measurement<Void> measurement = PersistenceBudget.measure(() -> galleryService.recordUploads(1, 0, 1024));
+
+		assertThat(measurement.updates()).isEqualTo(1);
+		assertThat(measurement.statements()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.deepfake.gallery.service;
+
+import com.example.deepfake.common.exception.InvalidRequestException;
+import com.example.deepfake.file.entity.File;
+import com.example.deepfake.gallery.dto.GalleryTimeseriesResponse;
+import com.example.deepfake.gallery.entity.UploadRollup;
+import com.example.deepfake.gallery.repository.UploadRollupRepository;
+import com.example.deepfake.support.PersistenceBudgetTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 업로드 추이 조회 구간 정렬과 시간 단위 보관 기간 확인
+@PersistenceBudgetTest
+class UploadAnalyticsServiceTest {
+
+	@Autowired
+	private UploadAnalyticsService uploadAnalyticsService;
+
+	@Autowired
+	private UploadRollupRepository uploadRollupRepository;
+
+	@AfterEach
+	void tearDown() {
+		uploadRollupRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void dailySeriesIncludesBucketOfUnalignedStart() {
+		LocalDateTime today = LocalDate.now().atStartOfDay();
+		uploadAnalyticsService.recordUploads(today.plusMinutes(30), File.FileType.IMAGE, 2, 2048);
+
+		GalleryTimeseriesResponse response = uploadAnalyticsService.getTimeseries(
+				today.plusHours(12), today.plusDays(1), UploadRollup.Granularity.DAY);
+
+		assertThat(response.getData().getFrom()).isEqualTo(today);
+		assertThat(response.getData().getPoints())
+				.singleElement()
+				.satisfies(point -> {
+					assertThat(point.getBucketStart()).isEqualTo(today);
+					assertThat(point.getUploads()).isEqualTo(2);
+				});
+	}
+
+	@Test
+	void hourlySeriesBeyondRetentionIsRejected() {
+		LocalDateTime from = LocalDate.now().minusDays(30).atStartOfDay();
+
+		assertThatThrownBy(() -> uploadAnalyticsService.getTimeseries(
+				from, from.plusHours(6), UploadRollup.Granularity.HOUR))
+				.isInstanceOf(InvalidRequestException.class);
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.deepfake.support;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+// 한 번의 서비스 호출이 실행한 SQL 문 수와 현재 스레드의 할당 바이트를 측정
+public final class PersistenceBudget {
+
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	private PersistenceBudget() {
+	}
+
+	public static <T> Measurement<T> measure(Supplier<T> action) {
+		QueryCountHolder.clear();
+		long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+
+		T result = action.get();
+
+		long allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore;
+		QueryCount count = QueryCountHolder.getGrandTotal();
+		QueryCountHolder.clear();
+		return new Measurement<>(result, count.getSelect(), count.getInsert(), count.getUpdate(),
+				count.getDelete(), count.getTotal(), allocated);
+	}
+
+	public static Measurement<Void> measure(Runnable action) {
+		return measure(() -> {
+			action.run();
+			return null;
+		});
+	}
+
+	public record Measurement<T>(T result, long selects, long inserts, long updates, long deletes,
+			long statements, long allocatedBytes) {
+	}
+}
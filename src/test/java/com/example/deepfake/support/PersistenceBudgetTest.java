@@ -0,0 +1,22 @@
+package com.example.deepfake.support;
+
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 내장 PostgreSQL + SQL 문 계수 프록시로 서비스 계층을 실행하는 통합 테스트
+// 테스트 메서드에 트랜잭션을 걸지 않아야 영속성 컨텍스트 캐시 없이 실제 쿼리 수가 측정됨
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@Import(QueryCountConfiguration.class)
+public @interface PersistenceBudgetTest {
+}
@@ -0,0 +1,30 @@
+package com.example.deepfake.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+// 애플리케이션 DataSource를 datasource-proxy로 감싸 실행된 SQL 문을 스레드별로 계수
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountConfiguration {
+
+	@Bean
+	static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+					return ProxyDataSourceBuilder.create(dataSource)
+							.name("query-count")
+							.countQuery()
+							.build();
+				}
+				return bean;
+			}
+		};
+	}
+}
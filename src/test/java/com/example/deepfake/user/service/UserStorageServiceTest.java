@@ -0,0 +1,92 @@
+package com.example.deepfake.user.service;
+
+import com.example.deepfake.file.entity.File;
+import com.example.deepfake.file.repository.FileRepository;
+import com.example.deepfake.support.PersistenceBudgetTest;
+import com.example.deepfake.user.entity.User;
+import com.example.deepfake.user.entity.UserStorageUsage;
+import com.example.deepfake.user.repository.UserRepository;
+import com.example.deepfake.user.repository.UserStorageUsageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 사용자 사용량 배치 재집계 확인 (배치 크기보다 사용자가 많아도 모두 보정)
+@PersistenceBudgetTest
+@TestPropertySource(properties = "user.quota.reconcile-batch-size=1")
+class UserStorageServiceTest {
+
+	@Autowired
+	private UserStorageService userStorageService;
+
+	@Autowired
+	private UserStorageUsageRepository usageRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private FileRepository fileRepository;
+
+	@AfterEach
+	void tearDown() {
+		fileRepository.deleteAllInBatch();
+		usageRepository.deleteAllInBatch();
+		userRepository.findAll().stream()
+				.filter(user -> user.getEmail().startsWith("quota-"))
+				.forEach(userRepository::delete);
+	}
+
+	@Test
+	void reconcileUsageCorrectsDriftedAndMissingRows() {
+		User drifted = saveUser("quota-drifted@example.com");
+		User missing = saveUser("quota-missing@example.com");
+		saveFile(drifted, File.FileType.IMAGE, 1000L);
+		saveFile(drifted, File.FileType.VIDEO, 3000L);
+		saveFile(missing, File.FileType.IMAGE, 500L);
+		usageRepository.save(UserStorageUsage.builder()
+				.userId(drifted.getId())
+				.bytesUsed(99L)
+				.imageCount(7L)
+				.videoCount(0L)
+				.updatedAt(LocalDateTime.now())
+				.build());
+
+		userStorageService.reconcileUsage();
+
+		assertThat(usageRepository.findById(drifted.getId())).hasValueSatisfying(usage -> {
+			assertThat(usage.getBytesUsed()).isEqualTo(4000L);
+			assertThat(usage.getImageCount()).isEqualTo(1L);
+			assertThat(usage.getVideoCount()).isEqualTo(1L);
+		});
+		assertThat(usageRepository.findById(missing.getId()))
+				.map(UserStorageUsage::getBytesUsed)
+				.contains(500L);
+	}
+
+	private User saveUser(String email) {
+		return userRepository.save(User.builder()
+				.email(email)
+				.password("{noop}password")
+				.name("용량")
+				.build());
+	}
+
+	private void saveFile(User user, File.FileType type, long size) {
+		fileRepository.save(File.builder()
+				.name("deepfake/quota-" + user.getId() + "-" + size)
+				.title("용량")
+				.originalName("quota.bin")
+				.url("https://res.cloudinary.com/test/quota.bin")
+				.size(size)
+				.type(type)
+				.mimeType(type == File.FileType.IMAGE ? "image/jpeg" : "video/mp4")
+				.user(user)
+				.build());
+	}
+}